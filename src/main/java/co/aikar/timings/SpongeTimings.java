@@ -43,6 +43,7 @@ public final class SpongeTimings {
     public static final Timing timeUpdateTimer = SpongeTimingsFactory.ofSafe("Time Update");
     public static final Timing serverCommandTimer = SpongeTimingsFactory.ofSafe("Server Command");
     public static final Timing worldSaveTimer = SpongeTimingsFactory.ofSafe("World Save");
+    public static final Timing parallelWorldTickTimer = SpongeTimingsFactory.ofSafe("Parallel World Ticks");
 
     public static final Timing processQueueTimer = SpongeTimingsFactory.ofSafe("processQueue");
 
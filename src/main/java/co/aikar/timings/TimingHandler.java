@@ -28,6 +28,7 @@
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.ParallelWorldTicker;
 
 class TimingHandler implements Timing {
 
@@ -106,7 +107,9 @@ public void stopTimingIfSync() {
 
     @Override
     public TimingHandler startTiming() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
+        // Timings may only be used by a single thread, worlds ticked in parallel are only timed as a whole by the main thread,
+        // see SpongeTimings.parallelWorldTickTimer
+        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient() || ParallelWorldTicker.isTickingWorld()) {
             return this;
         }
 
@@ -120,7 +123,7 @@ public TimingHandler startTiming() {
 
     @Override
     public void stopTiming() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
+        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient() || ParallelWorldTicker.isTickingWorld()) {
             return;
         }
 
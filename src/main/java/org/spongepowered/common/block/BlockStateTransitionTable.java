@@ -0,0 +1,168 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import net.minecraft.block.properties.IProperty;
+import net.minecraft.block.state.IBlockState;
+import org.spongepowered.common.interfaces.block.IMixinStateTransitions;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A dense table of the property transitions between the block states of a
+ * single block. Properties and their allowed values are addressed by their
+ * position in the block state container, every state gets a row of
+ * transitions indexed by {@code offset(property) + valueIndex}, which
+ * replaces the nested hash lookups of the vanilla property value table.
+ */
+public final class BlockStateTransitionTable {
+
+    private final IProperty<?>[] properties;
+    private final Comparable<?>[][] values;
+    private final int[] offsets;
+
+    private BlockStateTransitionTable(IProperty<?>[] properties, Comparable<?>[][] values, int[] offsets) {
+        this.properties = properties;
+        this.values = values;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Builds the transition table of the given block states and hands each
+     * state its row. States that can't be addressed keep using the vanilla
+     * lookups.
+     *
+     * @param properties The properties of the block state container
+     * @param states The valid states of the block state container
+     */
+    public static void build(Collection<IProperty<?>> properties, List<IBlockState> states) {
+        final int propertyCount = properties.size();
+        final IProperty<?>[] propertyArray = properties.toArray(new IProperty<?>[propertyCount]);
+        final Comparable<?>[][] values = new Comparable<?>[propertyCount][];
+        final int[] offsets = new int[propertyCount];
+        final int[] strides = new int[propertyCount];
+        int width = 0;
+        int combinations = 1;
+        for (int i = 0; i < propertyCount; i++) {
+            values[i] = propertyArray[i].getAllowedValues().toArray(new Comparable<?>[0]);
+            offsets[i] = width;
+            strides[i] = combinations;
+            width += values[i].length;
+            combinations *= values[i].length;
+        }
+        if (combinations != states.size()) {
+            return;
+        }
+
+        final BlockStateTransitionTable table = new BlockStateTransitionTable(propertyArray, values, offsets);
+        final IBlockState[] statesByCode = new IBlockState[combinations];
+        final int[][] valueIndices = new int[states.size()][];
+        final int[] codes = new int[states.size()];
+        for (int s = 0; s < states.size(); s++) {
+            final IBlockState state = states.get(s);
+            if (!(state instanceof IMixinStateTransitions)) {
+                return;
+            }
+            final int[] indices = new int[propertyCount];
+            int code = 0;
+            for (int i = 0; i < propertyCount; i++) {
+                indices[i] = table.getValueIndex(i, state.getProperties().get(propertyArray[i]));
+                if (indices[i] < 0) {
+                    return;
+                }
+                code += indices[i] * strides[i];
+            }
+            if (statesByCode[code] != null) {
+                return;
+            }
+            statesByCode[code] = state;
+            valueIndices[s] = indices;
+            codes[s] = code;
+        }
+
+        for (int s = 0; s < states.size(); s++) {
+            final IBlockState[] transitions = new IBlockState[width];
+            for (int i = 0; i < propertyCount; i++) {
+                final int base = codes[s] - valueIndices[s][i] * strides[i];
+                for (int v = 0; v < values[i].length; v++) {
+                    transitions[offsets[i] + v] = statesByCode[base + v * strides[i]];
+                }
+            }
+            ((IMixinStateTransitions) states.get(s)).setTransitions(table, valueIndices[s], transitions);
+        }
+    }
+
+    /**
+     * Gets the index of the given property, or -1 if the block does not have
+     * the property. Blocks have few properties, so an identity scan beats
+     * hashing the property.
+     *
+     * @param property The property
+     * @return The property index
+     */
+    public int getPropertyIndex(IProperty<?> property) {
+        final IProperty<?>[] properties = this.properties;
+        for (int i = 0; i < properties.length; i++) {
+            if (properties[i] == property) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the index of the given value within the allowed values of the
+     * property at the given index, or -1 if the value isn't allowed.
+     *
+     * @param propertyIndex The property index
+     * @param value The value
+     * @return The value index
+     */
+    public int getValueIndex(int propertyIndex, Object value) {
+        final Comparable<?>[] values = this.values[propertyIndex];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        // Boxed values outside of the caches are not identical
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int getOffset(int propertyIndex) {
+        return this.offsets[propertyIndex];
+    }
+
+    public int getValueCount(int propertyIndex) {
+        return this.values[propertyIndex].length;
+    }
+
+}
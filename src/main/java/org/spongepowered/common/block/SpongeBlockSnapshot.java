@@ -255,7 +255,7 @@ public DataContainer toContainer() {
             container.set(DataQueries.BLOCK_EXTENDED_STATE, this.extendedState);
         }
         if (this.compound != null) {
-            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().wrap(this.compound));
         }
         final List<DataView> dataList = DataUtil.getSerializedImmutableManipulatorList(this.extraData);
         if (!dataList.isEmpty()) {
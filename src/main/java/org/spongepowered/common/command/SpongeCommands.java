@@ -29,6 +29,7 @@
 import static org.spongepowered.api.command.args.GenericArguments.dimension;
 import static org.spongepowered.api.command.args.GenericArguments.firstParsing;
 import static org.spongepowered.api.command.args.GenericArguments.flags;
+import static org.spongepowered.api.command.args.GenericArguments.integer;
 import static org.spongepowered.api.command.args.GenericArguments.literal;
 import static org.spongepowered.api.command.args.GenericArguments.optional;
 import static org.spongepowered.api.command.args.GenericArguments.optionalWeak;
@@ -74,6 +75,7 @@
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.api.world.DimensionType;
 import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.gen.WorldGenerator;
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.asm.mixin.MixinEnvironment;
 import org.spongepowered.common.SpongeImpl;
@@ -84,16 +86,22 @@
 import org.spongepowered.common.config.type.GlobalConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.EventListenerProfiler;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.world.IMixinDimensionType;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.scheduler.AsyncTaskExecutor;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.AsyncLightingBatcher;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.gen.SpongeChunkGenerator;
+import org.spongepowered.common.world.gen.WorldGenProfiler;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.text.DecimalFormat;
@@ -102,6 +110,7 @@
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -137,6 +146,9 @@ public static CommandSpec createSpongeCommand() {
         nonFlagChildren.register(createSpongePluginsCommand(), "plugins");
         nonFlagChildren.register(createSpongeTimingsCommand(), "timings");
         nonFlagChildren.register(createSpongeWhichCommand(), "which");
+        nonFlagChildren.register(createSpongeSchedulerCommand(), "scheduler");
+        nonFlagChildren.register(createSpongeEventsCommand(), "events");
+        nonFlagChildren.register(createSpongeWorldGenCommand(), "worldgen");
         flagChildren.register(createSpongeChunksCommand(), "chunks");
         flagChildren.register(createSpongeConfigCommand(), "config");
         flagChildren.register(createSpongeReloadCommand(), "reload"); // TODO: Should these two be subcommands of config, and what is now config be set?
@@ -158,6 +170,9 @@ INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation\n",
                         INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
                         INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
                         INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds\n",
+                        INDENT, title("scheduler"), LONG_INDENT, "Provides async task statistics per plugin\n",
+                        INDENT, title("events"), LONG_INDENT, "Profiles the time spent in each event listener\n",
+                        INDENT, title("worldgen"), LONG_INDENT, "Profiles the time spent in each world generation populator\n",
                         SpongeImplHooks.getAdditionalCommandDescriptions()))
                 .arguments(firstParsing(nonFlagChildren, flags()
                         .flag("-global", "g")
@@ -290,9 +305,22 @@ protected Text getChunksInfo(WorldServer worldserver) {
                                 key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                                 key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                                 key("Removed Entities:"), value(worldserver.unloadedEntityList.size()), NEWLINE_TEXT,
-                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT
+                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT,
+                                getLightingInfo(worldserver)
                         );
                     }
+
+                    private Text getLightingInfo(WorldServer worldserver) {
+                        if (!SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting()) {
+                            return Text.EMPTY;
+                        }
+                        final AsyncLightingBatcher batcher = ((IMixinWorldServer) worldserver).getLightingBatcher();
+                        if (batcher == null) {
+                            return Text.EMPTY;
+                        }
+                        return Text.of(key("Chunk lighting task backlog: "), value(batcher.getChunkTaskBacklog()), NEWLINE_TEXT,
+                                key("Light update batches: "), value(batcher.getBatchCount()), NEWLINE_TEXT);
+                    }
                 })
                 .build();
     }
@@ -713,6 +741,172 @@ private static CommandSpec createSpongeTpsCommand() {
                 .build();
     }
 
+    private static CommandSpec createSpongeSchedulerCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.scheduler")
+                .description(Text.of("Provides the queue depth, active threads and latency of async tasks per plugin."))
+                .executor((src, args) -> {
+                    final AsyncTaskExecutor executor = SpongeImpl.getScheduler().getAsyncTaskExecutor();
+                    src.sendMessage(Text.of("Async executor mode: ", TextColors.LIGHT_PURPLE, executor.getMode().name().toLowerCase()));
+                    executor.getPluginStats().entrySet().stream()
+                            .sorted(Comparator.comparingInt(entry -> -entry.getValue().getQueued()))
+                            .forEach(entry -> {
+                                final AsyncTaskExecutor.PluginTaskStats stats = entry.getValue();
+                                src.sendMessage(Text.of("Plugin [", TextColors.DARK_GREEN, entry.getKey(), TextColors.RESET, "] Queued: ",
+                                        TextColors.LIGHT_PURPLE, stats.getQueued(), TextColors.RESET, ", Active: ", TextColors.LIGHT_PURPLE,
+                                        stats.getActive(), TextColors.RESET, ", Completed: ", stats.getCompleted(), ", Postponed: ",
+                                        stats.getRejected(), ", Mean wait: ", TextColors.RED,
+                                        THREE_DECIMAL_DIGITS_FORMATTER.format(stats.getMeanWaitNanos() * 1.0e-6d), "ms", TextColors.RESET,
+                                        ", Mean run: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(stats.getMeanRunNanos() * 1.0e-6d),
+                                        "ms"));
+                            });
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createSpongeEventsCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.events")
+                .description(Text.of("Profiles the time spent in each event listener per event type."))
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            EventListenerProfiler.reset();
+                            EventListenerProfiler.setEnabled(true);
+                            src.sendMessage(Text.of("Enabled event listener profiling & reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "on")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            EventListenerProfiler.setEnabled(false);
+                            src.sendMessage(Text.of("Disabled event listener profiling"));
+                            return CommandResult.success();
+                        })
+                        .build(), "off")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            EventListenerProfiler.reset();
+                            src.sendMessage(Text.of("Event listener profile reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "reset")
+                .child(CommandSpec.builder()
+                        .arguments(optional(integer(Text.of("count"))))
+                        .executor((src, args) -> {
+                            final List<EventListenerProfiler.ListenerStats> stats = EventListenerProfiler.getStats();
+                            if (stats.isEmpty()) {
+                                src.sendMessage(Text.of("No event listener calls recorded, enable profiling by typing /sponge events on"));
+                                return CommandResult.empty();
+                            }
+                            final int count = Math.max(0, args.<Integer>getOne("count").orElse(10));
+                            for (EventListenerProfiler.ListenerStats entry : stats.subList(0, Math.min(count, stats.size()))) {
+                                src.sendMessage(Text.of("Plugin [", TextColors.DARK_GREEN, entry.getPluginId(), TextColors.RESET, "] ",
+                                        entry.getListenerName(), " (", entry.getEventClass().getSimpleName(), ") Calls: ", TextColors.LIGHT_PURPLE,
+                                        entry.getCount(), TextColors.RESET, ", Total: ", TextColors.RED,
+                                        THREE_DECIMAL_DIGITS_FORMATTER.format(entry.getTotalNanos() * 1.0e-6d), "ms", TextColors.RESET,
+                                        ", Mean: ", THREE_DECIMAL_DIGITS_FORMATTER.format(entry.getMeanNanos() * 1.0e-6d), "ms, p99: ",
+                                        THREE_DECIMAL_DIGITS_FORMATTER.format(entry.getPercentileNanos(0.99) * 1.0e-6d), "ms, Max: ",
+                                        THREE_DECIMAL_DIGITS_FORMATTER.format(entry.getMaxNanos() * 1.0e-6d), "ms"));
+                            }
+                            return CommandResult.success();
+                        })
+                        .build(), "report")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            File file = new File(new File(new File("."), "event-dumps"),
+                                    "event-listeners-" + DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(LocalDateTime.now()) + ".json");
+                            src.sendMessage(Text.of("Writing event listener profile to: ", file));
+                            try {
+                                EventListenerProfiler.writeReport(file);
+                            } catch (IOException e) {
+                                SpongeImpl.getLogger().error("Could not save event listener profile to " + file, e);
+                                throw new CommandException(Text.of("Could not save event listener profile: ", e.getMessage()));
+                            }
+                            src.sendMessage(Text.of("Event listener profile complete"));
+                            return CommandResult.success();
+                        })
+                        .build(), "dump")
+                .build();
+    }
+
+    private static CommandSpec createSpongeWorldGenCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.worldgen")
+                .description(Text.of("Profiles the time spent and blocks changed by each world generation populator per world."))
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            Sponge.getServer().getWorlds().forEach(world -> getWorldGenProfiler(world).ifPresent(WorldGenProfiler::reset));
+                            WorldGenProfiler.setEnabled(true);
+                            src.sendMessage(Text.of("Enabled world generation profiling & reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "on")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            WorldGenProfiler.setEnabled(false);
+                            src.sendMessage(Text.of("Disabled world generation profiling"));
+                            return CommandResult.success();
+                        })
+                        .build(), "off")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            Sponge.getServer().getWorlds().forEach(world -> getWorldGenProfiler(world).ifPresent(WorldGenProfiler::reset));
+                            src.sendMessage(Text.of("World generation profile reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "reset")
+                .child(CommandSpec.builder()
+                        .arguments(optionalWeak(world(Text.of("world"))), optional(integer(Text.of("count"))))
+                        .executor((src, args) -> {
+                            final int count = Math.max(0, args.<Integer>getOne("count").orElse(10));
+                            final List<World> worlds = new ArrayList<>();
+                            if (args.hasAny("world")) {
+                                for (WorldProperties properties : args.<WorldProperties>getAll("world")) {
+                                    final Optional<World> optWorld = Sponge.getServer().getWorld(properties.getUniqueId());
+                                    if (!optWorld.isPresent()) {
+                                        throw new CommandException(Text.of("World ", properties.getWorldName(), " is not loaded"));
+                                    }
+                                    worlds.add(optWorld.get());
+                                }
+                            } else {
+                                worlds.addAll(Sponge.getServer().getWorlds());
+                            }
+                            boolean recorded = false;
+                            for (World world : worlds) {
+                                final List<WorldGenProfiler.PopulatorStats> stats =
+                                        getWorldGenProfiler(world).map(WorldGenProfiler::getStats).orElse(Collections.emptyList());
+                                if (stats.isEmpty()) {
+                                    continue;
+                                }
+                                recorded = true;
+                                src.sendMessage(Text.of("World [", TextColors.DARK_GREEN, world.getName(), TextColors.RESET, "]"));
+                                for (WorldGenProfiler.PopulatorStats entry : stats.subList(0, Math.min(count, stats.size()))) {
+                                    src.sendMessage(Text.of(LIST_ITEM_TEXT, entry.getId(), " (", entry.getPhase().name().toLowerCase(), ") Calls: ",
+                                            TextColors.LIGHT_PURPLE, entry.getInvocations(), TextColors.RESET, ", Total: ", TextColors.RED,
+                                            THREE_DECIMAL_DIGITS_FORMATTER.format(entry.getTotalNanos() * 1.0e-6d), "ms", TextColors.RESET,
+                                            ", Mean: ", THREE_DECIMAL_DIGITS_FORMATTER.format(entry.getMeanNanos() * 1.0e-6d), "ms, Blocks changed: ",
+                                            entry.getBlocksChanged()));
+                                }
+                            }
+                            if (!recorded) {
+                                src.sendMessage(Text.of("No world generation recorded, enable profiling by typing /sponge worldgen on"));
+                                return CommandResult.empty();
+                            }
+                            return CommandResult.success();
+                        })
+                        .build(), "report")
+                .build();
+    }
+
+    private static Optional<WorldGenProfiler> getWorldGenProfiler(World world) {
+        final WorldGenerator generator = world.getWorldGenerator();
+        if (generator instanceof SpongeChunkGenerator) {
+            return Optional.of(((SpongeChunkGenerator) generator).getProfiler());
+        }
+        return Optional.empty();
+    }
+
     private static void printWorldTickTime(CommandSource src, World world) {
         final long[] worldTickTimes = ((IMixinMinecraftServer) SpongeImpl.getServer()).
                 getWorldTickTimes(((IMixinWorldServer) world).getDimensionId());
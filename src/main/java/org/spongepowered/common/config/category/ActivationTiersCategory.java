@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigSerializable
+public class ActivationTiersCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If enabled, active objects farther away from the closest player are only ticked every few ticks,\n"
+                                          + "according to the tiers below. The ticks are spread out over the interval to avoid lag spikes.")
+    private boolean enabled = false;
+
+    @Setting(value = "tiers", comment = "The tick interval of active objects, by their minimum block distance from the closest player.\n"
+                                        + "Objects closer than all the tiers are ticked every tick.")
+    private Map<Integer, Integer> tiers = new HashMap<>();
+
+    public ActivationTiersCategory() {
+        this.tiers.put(16, 2);
+        this.tiers.put(32, 4);
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public Map<Integer, Integer> getTiers() {
+        return this.tiers;
+    }
+
+    /**
+     * Gets the tick interval of an active object at the given distance from
+     * the closest player.
+     *
+     * @param distance The block distance from the closest player
+     * @return The tick interval, 1 to tick every tick
+     */
+    public int getTickInterval(double distance) {
+        if (!this.enabled) {
+            return 1;
+        }
+        int tierDistance = -1;
+        int interval = 1;
+        for (Map.Entry<Integer, Integer> tier : this.tiers.entrySet()) {
+            final int minDistance = tier.getKey();
+            if (distance >= minDistance && minDistance > tierDistance) {
+                tierDistance = minDistance;
+                interval = tier.getValue();
+            }
+        }
+        return Math.max(1, interval);
+    }
+}
@@ -36,6 +36,14 @@ public class AsyncLightingCategory extends ConfigCategory {
     @Setting(value = "num-threads", comment = "The amount of threads to dedicate for async lighting updates. (Default: 2)")
     private int numAsyncThreads = 2;
 
+    @Setting(value = "batching", comment = "If enabled, the lighting updates of all chunks ticked during a world tick are collected\n"
+                                           + "and submitted in batches of neighbouring chunks, each processed by a single thread.")
+    private boolean batching = false;
+
+    @Setting(value = "batch-size", comment = "The maximum amount of chunks whose lighting is processed by a thread as one batch.\n"
+                                             + "A batch never spans more than one region of 4x4 chunks. (Default: 16)")
+    private int batchSize = 16;
+
     public boolean isEnabled() {
         return this.enabled;
     }
@@ -43,4 +51,12 @@ public boolean isEnabled() {
     public int getNumThreads() {
         return this.numAsyncThreads;
     }
+
+    public boolean useBatching() {
+        return this.batching;
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
 }
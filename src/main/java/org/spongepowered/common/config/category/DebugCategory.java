@@ -42,6 +42,23 @@ public class DebugCategory extends ConfigCategory {
     @Setting(value = "concurrent-entity-checks", comment = "Detect and prevent certain attempts to use entities concurrently.\nWARNING: May drastically decrease server performance. Only enable this to debug a pre-existing issue")
     private boolean concurrentChecks = false;
 
+    @Setting(value = "profile-event-listeners", comment = "Record call counts and latency histograms for every event listener on startup.\n"
+                                                          + "Can be toggled at runtime with '/sponge events on|off', see '/sponge events report'.")
+    private boolean profileEventListeners = false;
+
+    @Setting(value = "profile-world-generation", comment = "Record the invocations, time spent and blocks changed by every generation populator and\n"
+                                                           + "populator of each world on startup. Can be toggled at runtime with '/sponge worldgen on|off',\n"
+                                                           + "see '/sponge worldgen report'.")
+    private boolean profileWorldGeneration = false;
+
+    public boolean profileEventListeners() {
+        return this.profileEventListeners;
+    }
+
+    public boolean profileWorldGeneration() {
+        return this.profileWorldGeneration;
+    }
+
     public boolean doConcurrentChecks() {
         return this.concurrentChecks;
     }
@@ -63,6 +63,11 @@ public class GlobalWorldCategory extends WorldCategory {
             + "\nNote: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
     private List<UUID> invalidLookupUuids = new ArrayList<>();
 
+    @Setting(value = "lifecycle-tick-budget", comment =
+            "The time, in milliseconds, the main thread may spend each tick unloading queued worlds and finishing"
+            + "\nworlds loaded, unloaded or saved asynchronously. At least one world is handled every tick. (Default: 10)")
+    private int lifecycleTickBudget = 10;
+
     public GlobalWorldCategory() {
         this.invalidLookupUuids.add(UUID.fromString("00000000-0000-0000-0000-000000000000"));
         this.invalidLookupUuids.add(UUID.fromString("0d0c4ca0-4ff1-11e4-916c-0800200c9a66")); // ComputerCraft FakePlayer
@@ -98,4 +103,8 @@ public int getGameProfileQueryTaskInterval() {
     public List<UUID> getInvalidLookupUuids() {
         return this.invalidLookupUuids;
     }
+
+    public int getLifecycleTickBudget() {
+        return this.lifecycleTickBudget;
+    }
 }
\ No newline at end of file
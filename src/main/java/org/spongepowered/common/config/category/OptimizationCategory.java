@@ -61,6 +61,20 @@ public class OptimizationCategory extends ConfigCategory {
             + "Note: This optimization has a few issues which is explained in the bug report. We are not responsible for any issues this may cause.")
     private boolean pandaRedstone = false;
 
+    @Setting(value = "block-state-transitions", comment = "If enabled, the transitions between the block states of every block are precomputed into\n"
+            + "a dense table, making changes of a single property of a block state an array lookup.\n"
+            + "If mods replace block states or their properties, disable.")
+    private boolean blockStateTransitions = false;
+
+    @Setting(value = "world-generation", comment = "Spreads the generation of chunk terrain over multiple threads.")
+    private WorldGenerationCategory worldGenerationCategory = new WorldGenerationCategory();
+
+    @Setting(value = "chunk-data-stream", comment = "Handles streams over all chunks stored by a world, used by plugins to scan whole worlds.")
+    private ChunkDataStreamCategory chunkDataStreamCategory = new ChunkDataStreamCategory();
+
+    @Setting(value = "parallel-world-ticking", comment = "Ticks the worlds in parallel instead of one after another.")
+    private ParallelWorldTickingCategory parallelWorldTickingCategory = new ParallelWorldTickingCategory();
+
     public OptimizationCategory() {  
         try {  
             // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.  
@@ -99,4 +113,24 @@ public boolean useAsyncLighting() {
     public boolean usePandaRedstone() {
         return this.pandaRedstone;
     }
+
+    public boolean useBlockStateTransitions() {
+        return this.blockStateTransitions;
+    }
+
+    public WorldGenerationCategory getWorldGenerationCategory() {
+        return this.worldGenerationCategory;
+    }
+
+    public ChunkDataStreamCategory getChunkDataStreamCategory() {
+        return this.chunkDataStreamCategory;
+    }
+
+    public ParallelWorldTickingCategory getParallelWorldTickingCategory() {
+        return this.parallelWorldTickingCategory;
+    }
+
+    public boolean useParallelWorldTicking() {
+        return this.parallelWorldTickingCategory.isEnabled();
+    }
 }
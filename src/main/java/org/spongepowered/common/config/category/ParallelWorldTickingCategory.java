@@ -0,0 +1,53 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class ParallelWorldTickingCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If enabled, the worlds are ticked at the same time on a pool of threads, each world with its own\n"
+                                          + "cause tracker and cause stack. Work spanning worlds, such as portals, entity trackers and player\n"
+                                          + "list updates, is run on the main thread once all worlds finished their tick.\n"
+                                          + "Warning: mods and plugins that access other worlds while a world ticks are not thread safe\n"
+                                          + "in this mode.\n"
+                                          + "Note: timings can't cover the world ticks in this mode, no world, entity or tileentity tick\n"
+                                          + "is recorded. Their combined time shows up as a single 'Parallel World Ticks' entry instead.")
+    private boolean enabled = false;
+
+    @Setting(value = "num-threads", comment = "The amount of threads used to tick worlds.\n"
+                                              + "A value of 0 uses the amount of available processors.")
+    private int numThreads = 0;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getNumThreads() {
+        return this.numThreads;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class SchedulerCategory extends ConfigCategory {
+
+    @Setting(value = "async-executor-mode", comment = "The kind of thread pool used to run asynchronous plugin tasks.\n"
+                                                      + "'cached' spawns as many threads as there are tasks running at the same time.\n"
+                                                      + "'bounded' uses a work-stealing pool limited to 'async-max-threads' threads.\n"
+                                                      + "'virtual' runs each task on a virtual thread, if the java runtime supports\n"
+                                                      + "them, otherwise 'bounded' is used.")
+    private String asyncExecutorMode = "cached";
+
+    @Setting(value = "async-max-threads", comment = "The maximum amount of threads of the 'bounded' async executor mode.\n"
+                                                    + "A value of 0 uses the amount of available processors.")
+    private int asyncMaxThreads = 0;
+
+    @Setting(value = "async-plugin-queue-limit", comment = "The maximum amount of async tasks of a single plugin which may wait for\n"
+                                                           + "a thread at the same time. Once reached, further executions of that plugin's\n"
+                                                           + "tasks are postponed until its backlog shrinks. A value of 0 disables the limit.")
+    private int asyncPluginQueueLimit = 0;
+
+    public String getAsyncExecutorMode() {
+        return this.asyncExecutorMode;
+    }
+
+    public int getAsyncMaxThreads() {
+        return this.asyncMaxThreads;
+    }
+
+    public int getAsyncPluginQueueLimit() {
+        return this.asyncPluginQueueLimit;
+    }
+}
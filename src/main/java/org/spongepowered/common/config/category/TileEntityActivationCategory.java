@@ -41,6 +41,10 @@ public class TileEntityActivationCategory extends ConfigCategory {
     private int defaultTickRate = 1;
     @Setting(value = "mods", comment = "Per-mod overrides. Refer to the minecraft default mod for example.")
     private Map<String, TileEntityActivationModCategory> modList = new HashMap<>();
+    @Setting(value = "tick-tiers", comment = "Reduces the tick rate of active tileentities at increasing distances from players.\n"
+                                             + "Furnaces and hoppers keep burning, cooking and cooling down while skipped.\n"
+                                             + "Tileentities out of their activation range are only skipped while enabled.")
+    private ActivationTiersCategory tickTiers = new ActivationTiersCategory();
 
     public TileEntityActivationCategory() {
     }
@@ -60,4 +64,8 @@ public int getDefaultTickRate() {
     public Map<String, TileEntityActivationModCategory> getModList() {
         return this.modList;
     }
+
+    public ActivationTiersCategory getTickTiers() {
+        return this.tickTiers;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class WorldGenerationCategory extends ConfigCategory {
+
+    @Setting(value = "worker-threads", comment = "The amount of threads used to generate chunk terrain off the main thread.\n"
+                                                 + "A value of 0 uses one less than the amount of available processors.")
+    private int workerThreads = 0;
+
+    @Setting(value = "parallel-pre-generation", comment = "If enabled, chunk pre-generation works through the area region file by region file.\n"
+                                                          + "Existing chunks are looked up off the main thread, and the terrain of missing chunks\n"
+                                                          + "is generated on the worker threads if the world generator supports it. Population\n"
+                                                          + "and insertion of the chunks into the world still happen on the main thread.")
+    private boolean parallelPreGeneration = false;
+
+    @Setting(value = "parallel-spawn-preparation", comment = "If enabled, the spawn area of a loading world is prepared on the worker threads. Existing chunks\n"
+                                                             + "are read from disk and the terrain of missing chunks is generated in parallel, if the world\n"
+                                                             + "generator supports it. Population and insertion of the chunks still happen on the main thread.")
+    private boolean parallelSpawnPreparation = false;
+
+    public int getWorkerThreads() {
+        return this.workerThreads;
+    }
+
+    public boolean useParallelPreGeneration() {
+        return this.parallelPreGeneration;
+    }
+
+    public boolean useParallelSpawnPreparation() {
+        return this.parallelSpawnPreparation;
+    }
+}
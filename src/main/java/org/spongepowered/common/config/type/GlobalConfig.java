@@ -38,6 +38,7 @@
 import org.spongepowered.common.config.category.GlobalWorldCategory;
 import org.spongepowered.common.config.category.ModuleCategory;
 import org.spongepowered.common.config.category.OptimizationCategory;
+import org.spongepowered.common.config.category.SchedulerCategory;
 import org.spongepowered.common.config.category.SqlCategory;
 import org.spongepowered.common.config.category.TeleportHelperCategory;
 import org.spongepowered.common.util.IpSet;
@@ -84,6 +85,9 @@ public class GlobalConfig extends ConfigBase {
     @Setting(value = "teleport-helper", comment = "Blocks to blacklist for safe teleportation.")
     private TeleportHelperCategory teleportHelper = new TeleportHelperCategory();
 
+    @Setting(value = "scheduler", comment = "Configuration options related to the execution of plugin tasks.")
+    private SchedulerCategory scheduler = new SchedulerCategory();
+
     public GlobalConfig() {
         super();
     }
@@ -151,4 +155,8 @@ public TeleportHelperCategory getTeleportHelper() {
         return this.teleportHelper;
     }
 
+    public SchedulerCategory getScheduler() {
+        return this.scheduler;
+    }
+
 }
@@ -55,6 +55,20 @@
 
     boolean supports(DataHolder dataHolder);
 
+    /**
+     * Checks if data holders of the provided class may be compatible with
+     * this {@link DataProcessor}. This is used to narrow down the processors
+     * of a {@link DataManipulator} once per holder class, a return value of
+     * {@code true} still requires {@link #supports(DataHolder)} to be
+     * checked.
+     *
+     * @param holderClass The concrete class of the data holder
+     * @return False if no data holder of the class can be supported
+     */
+    default boolean canSupportHolder(Class<?> holderClass) {
+        return true;
+    }
+
     boolean supports(EntityType entityType);
 
     /**
@@ -28,7 +28,7 @@
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import org.spongepowered.api.CatalogType;
+import com.google.common.cache.CacheStats;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
@@ -48,16 +48,46 @@ private ImmutableDataCachingUtil() {}
     public static final int MANIPULATOR_CACHE_LIMIT = 100000;
     public static final int VALUE_CACHE_LIMIT = 100000;
 
-    private static final Cache<String, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
+    private static final Cache<CacheKey, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
         .maximumSize(MANIPULATOR_CACHE_LIMIT)
         .concurrencyLevel(4)
+        .recordStats()
         .build();
 
-    private static final Cache<String, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
+    private static final Cache<CacheKey, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
         .concurrencyLevel(4)
         .maximumSize(VALUE_CACHE_LIMIT)
+        .recordStats()
         .build();
 
+    /**
+     * Gets the hit, miss and eviction statistics of the cached
+     * {@link ImmutableDataManipulator}s.
+     *
+     * @return The manipulator cache statistics
+     */
+    public static CacheStats getManipulatorCacheStats() {
+        return manipulatorCache.stats();
+    }
+
+    /**
+     * Gets the hit, miss and eviction statistics of the cached
+     * {@link ImmutableValue}s.
+     *
+     * @return The value cache statistics
+     */
+    public static CacheStats getValueCacheStats() {
+        return valueCache.stats();
+    }
+
+    public static long getManipulatorCacheSize() {
+        return manipulatorCache.size();
+    }
+
+    public static long getValueCacheSize() {
+        return valueCache.size();
+    }
+
     /**
      * Retrieves a basic manipulator from {@link Cache}. If the {@link Cache}
      * does not have the desired {@link ImmutableDataManipulator} with relative
@@ -75,7 +105,7 @@ private ImmutableDataCachingUtil() {}
      */
     @SuppressWarnings("unchecked")
     public static <T extends ImmutableDataManipulator<?, ?>> T getManipulator(final Class<T> immutableClass, final Object... args) {
-        final String key = getKey(immutableClass, args);
+        final CacheKey key = new CacheKey(immutableClass, args);
         // We can't really use the generic typing here because it's complicated...
         try {
             // Let's get the key
@@ -97,7 +127,9 @@ private ImmutableDataCachingUtil() {}
     @SuppressWarnings("unchecked")
     public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T getValue(final Class<V> valueClass,
             final Key<? extends BaseValue<E>> usedKey, final E defaultArg, final E arg, final Object... extraArgs) {
-        final String key = getKey(valueClass, usedKey.getQuery().asString('.'), arg.getClass(), arg);
+        final CacheKey key = extraArgs == null || extraArgs.length == 0
+                ? new CacheKey(valueClass, usedKey, defaultArg, arg)
+                : new CacheKey(valueClass, usedKey, defaultArg, arg, extraArgs);
         try {
             return (T) ImmutableDataCachingUtil.valueCache.get(key, (Callable<ImmutableValue<?>>) () -> {
                     try {
@@ -115,15 +147,39 @@ public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T ge
         }
     }
 
-    private static String getKey(final Class<?> immutableClass, final Object... args) {
-        final StringBuilder builder = new StringBuilder(immutableClass.getCanonicalName() + ":");
-        for (Object object : args) {
-            if (object instanceof CatalogType) {
-                builder.append("{").append(((CatalogType) object).getId()).append("}");
-            } else {
-                builder.append("{").append(object.toString()).append("}");
+    /**
+     * The key of a cached instance, the class to construct along with the
+     * arguments passed to its constructor. Arguments are compared by
+     * equality, arrays by their contents.
+     */
+    private static final class CacheKey {
+
+        private final Class<?> type;
+        private final Object[] args;
+        private final int hash;
+
+        CacheKey(Class<?> type, Object... args) {
+            this.type = type;
+            this.args = args;
+            this.hash = 31 * type.hashCode() + Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
             }
+            final CacheKey other = (CacheKey) obj;
+            return this.hash == other.hash && this.type == other.type && Arrays.deepEquals(this.args, other.args);
         }
-        return builder.toString();
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
     }
 }
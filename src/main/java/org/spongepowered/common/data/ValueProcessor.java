@@ -139,6 +139,19 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Checks if containers of the provided class may be compatible with this
+     * {@link ValueProcessor}. This is used to narrow down the processors of a
+     * {@link Key} once per container class, a return value of {@code true}
+     * still requires {@link #supports(ValueContainer)} to be checked.
+     *
+     * @param containerClass The concrete class of the value container
+     * @return False if no container of the class can be supported
+     */
+    default boolean canSupportContainer(Class<?> containerClass) {
+        return true;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
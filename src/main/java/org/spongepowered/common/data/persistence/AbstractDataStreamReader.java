@@ -0,0 +1,144 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.spongepowered.api.data.DataQuery.of;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Materializes views and lists from the tokens of a
+ * {@link DataStreamReader}, formats only need to read scalar values.
+ */
+abstract class AbstractDataStreamReader implements DataStreamReader {
+
+    /**
+     * Consumes the next scalar value.
+     *
+     * @return The value
+     * @throws IOException If the input could not be read
+     */
+    @Nullable
+    abstract Object nextScalar() throws IOException;
+
+    @Override
+    public boolean hasNext() throws IOException {
+        final Token token = peek();
+        return token != Token.END_VIEW && token != Token.END_LIST && token != Token.END;
+    }
+
+    @Nullable
+    @Override
+    public Object nextValue() throws IOException {
+        final Token token = peek();
+        switch (token) {
+            case BEGIN_VIEW:
+                return nextView();
+            case BEGIN_LIST:
+                return nextList();
+            case VALUE:
+                return nextScalar();
+            default:
+                throw new IllegalStateException("Expected a value but was " + token);
+        }
+    }
+
+    @Override
+    public DataContainer nextView() throws IOException {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        readView(container);
+        return container;
+    }
+
+    private void readView(DataView view) throws IOException {
+        beginView();
+        while (hasNext()) {
+            final String key = nextKey();
+            if (peek() == Token.BEGIN_VIEW) {
+                // Read straight in to the child view so it isn't copied
+                readView(view.createView(of(key)));
+            } else {
+                final Object value = nextValue();
+                if (value != null) {
+                    view.set(of(key), value);
+                }
+            }
+        }
+        endView();
+    }
+
+    @Override
+    public List<Object> nextList() throws IOException {
+        final List<Object> list = new ArrayList<>();
+        beginList();
+        while (hasNext()) {
+            list.add(nextValue());
+        }
+        endList();
+        return list;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        final Token token = peek();
+        switch (token) {
+            case BEGIN_VIEW:
+                beginView();
+                while (hasNext()) {
+                    nextKey();
+                    skipValue();
+                }
+                endView();
+                break;
+            case BEGIN_LIST:
+                beginList();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endList();
+                break;
+            case VALUE:
+                nextScalar();
+                break;
+            default:
+                throw new IllegalStateException("Expected a value but was " + token);
+        }
+    }
+
+    final void expect(Token expected) throws IOException {
+        final Token token = peek();
+        if (token != expected) {
+            throw new IllegalStateException("Expected " + expected + " but was " + token);
+        }
+    }
+
+}
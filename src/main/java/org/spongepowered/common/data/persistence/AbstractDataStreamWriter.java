@@ -0,0 +1,82 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Writes views, maps and collections as entries of a
+ * {@link DataStreamWriter}, formats only need to write scalar values.
+ */
+abstract class AbstractDataStreamWriter implements DataStreamWriter {
+
+    /**
+     * Writes a boolean, number, string or primitive array.
+     *
+     * @param value The value
+     * @throws IOException If the output could not be written
+     */
+    abstract void writeScalar(Object value) throws IOException;
+
+    @Override
+    public DataStreamWriter value(Object value) throws IOException {
+        if (value instanceof DataView) {
+            beginView();
+            for (Map.Entry<DataQuery, Object> entry : ((DataView) value).getValues(false).entrySet()) {
+                key(entry.getKey());
+                value(entry.getValue());
+            }
+            endView();
+        } else if (value instanceof DataSerializable) {
+            value(((DataSerializable) value).toContainer());
+        } else if (value instanceof Map) {
+            beginView();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                final Object key = entry.getKey();
+                key(key instanceof DataQuery ? ((DataQuery) key).asString('.') : key.toString());
+                value(entry.getValue());
+            }
+            endView();
+        } else if (value instanceof Iterable) {
+            beginList();
+            for (Object element : (Iterable<?>) value) {
+                value(element);
+            }
+            endList();
+        } else if (value instanceof CatalogType) {
+            writeScalar(((CatalogType) value).getId());
+        } else {
+            writeScalar(value);
+        }
+        return this;
+    }
+
+}
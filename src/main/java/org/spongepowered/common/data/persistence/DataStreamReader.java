@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the entries of serialized {@link DataView}s one token at a time,
+ * without building the whole {@link DataContainer} in memory first. The
+ * root of the input is always a view.
+ *
+ * <p>Views and lists are entered and left explicitly, entries of a view
+ * are a key followed by its value. Any value can also be read whole through
+ * {@link #nextValue()}, which materializes only that value, so an archive of
+ * many entries can be processed one entry at a time.</p>
+ */
+public interface DataStreamReader extends Closeable {
+
+    enum Token {
+        BEGIN_VIEW,
+        END_VIEW,
+        BEGIN_LIST,
+        END_LIST,
+        KEY,
+        VALUE,
+        END
+    }
+
+    /**
+     * Gets the next token without consuming it.
+     *
+     * @return The next token
+     * @throws IOException If the input could not be read
+     */
+    Token peek() throws IOException;
+
+    /**
+     * Gets whether the current view or list has another entry.
+     *
+     * @return True if there is another entry
+     * @throws IOException If the input could not be read
+     */
+    boolean hasNext() throws IOException;
+
+    void beginView() throws IOException;
+
+    void endView() throws IOException;
+
+    void beginList() throws IOException;
+
+    void endList() throws IOException;
+
+    /**
+     * Consumes the key of the next entry of the current view.
+     *
+     * @return The key
+     * @throws IOException If the input could not be read
+     */
+    String nextKey() throws IOException;
+
+    /**
+     * Consumes the next value. Views are returned as a {@link DataContainer},
+     * lists as a {@link List}.
+     *
+     * @return The value
+     * @throws IOException If the input could not be read
+     */
+    @Nullable
+    Object nextValue() throws IOException;
+
+    /**
+     * Consumes the next value, which must be a view, as a
+     * {@link DataContainer}.
+     *
+     * @return The view
+     * @throws IOException If the input could not be read
+     */
+    DataContainer nextView() throws IOException;
+
+    /**
+     * Consumes the next value, which must be a list.
+     *
+     * @return The list
+     * @throws IOException If the input could not be read
+     */
+    List<Object> nextList() throws IOException;
+
+    /**
+     * Consumes the next value without materializing it.
+     *
+     * @throws IOException If the input could not be read
+     */
+    void skipValue() throws IOException;
+
+}
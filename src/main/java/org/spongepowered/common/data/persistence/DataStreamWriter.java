@@ -0,0 +1,72 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Writes serialized {@link DataView}s one entry at a time, the counterpart
+ * of {@link DataStreamReader}. The root must be a view, started with
+ * {@link #beginView()}.
+ */
+public interface DataStreamWriter extends Closeable, Flushable {
+
+    DataStreamWriter beginView() throws IOException;
+
+    DataStreamWriter endView() throws IOException;
+
+    DataStreamWriter beginList() throws IOException;
+
+    DataStreamWriter endList() throws IOException;
+
+    /**
+     * Starts the next entry of the current view.
+     *
+     * @param key The key of the entry
+     * @return This writer, for chaining
+     * @throws IOException If the output could not be written
+     */
+    DataStreamWriter key(String key) throws IOException;
+
+    default DataStreamWriter key(DataQuery key) throws IOException {
+        return key(key.asString('.'));
+    }
+
+    /**
+     * Writes a value, either of an entry or of the current list. Views,
+     * serializables, maps and collections are written whole.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If the output could not be written
+     */
+    DataStreamWriter value(Object value) throws IOException;
+
+}
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.data.persistence;
 
+import com.google.gson.stream.JsonWriter;
 import ninja.leaping.configurate.ConfigurationNode;
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import ninja.leaping.configurate.hocon.HoconConfigurationLoader;
@@ -48,7 +49,7 @@
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.Callable;
 
-public class HoconDataFormat extends SpongeCatalogType implements StringDataFormat {
+public class HoconDataFormat extends SpongeCatalogType implements StringDataFormat, StreamingDataFormat {
 
     public HoconDataFormat(String id) {
         super(id);
@@ -77,6 +78,22 @@ private static DataContainer readFrom(Callable<BufferedReader> source) throws IO
         return ConfigurateTranslator.instance().translateFrom(node);
     }
 
+    @Override
+    public DataStreamReader createReader(InputStream input) throws IOException {
+        final HoconConfigurationLoader loader = HoconConfigurationLoader.builder()
+                .setSource(() -> new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)))
+                .build();
+        return new HoconDataStreamReader(loader.load());
+    }
+
+    // Streamed as JSON, which is valid HOCON
+    @Override
+    public DataStreamWriter createWriter(OutputStream output) throws IOException {
+        final JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+        writer.setIndent("    ");
+        return new JsonDataStreamWriter(writer);
+    }
+
     @Override
     public String write(DataView data) throws IOException {
         StringWriter writer = new StringWriter();
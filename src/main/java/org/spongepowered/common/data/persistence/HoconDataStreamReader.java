@@ -0,0 +1,137 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import ninja.leaping.configurate.ConfigurationNode;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the entries of a loaded configuration node one at a time. The HOCON
+ * parser can only produce a whole node tree, so this saves translating the
+ * tree in to a container, not parsing it.
+ */
+final class HoconDataStreamReader extends AbstractDataStreamReader {
+
+    private static final class Frame {
+
+        private final Iterator<? extends ConfigurationNode> children;
+        private final boolean list;
+
+        Frame(Iterator<? extends ConfigurationNode> children, boolean list) {
+            this.children = children;
+            this.list = list;
+        }
+
+    }
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    @Nullable private ConfigurationNode next;
+    private boolean keyPending;
+
+    HoconDataStreamReader(ConfigurationNode root) {
+        this.next = root;
+    }
+
+    @Override
+    public Token peek() throws IOException {
+        if (this.next == null) {
+            final Frame frame = this.frames.peek();
+            if (frame == null) {
+                return Token.END;
+            }
+            if (!frame.children.hasNext()) {
+                return frame.list ? Token.END_LIST : Token.END_VIEW;
+            }
+            this.next = frame.children.next();
+            this.keyPending = !frame.list;
+        }
+        if (this.keyPending) {
+            return Token.KEY;
+        }
+        if (this.next.hasMapChildren()) {
+            return Token.BEGIN_VIEW;
+        } else if (this.next.hasListChildren()) {
+            return Token.BEGIN_LIST;
+        }
+        return Token.VALUE;
+    }
+
+    private ConfigurationNode consumeNode() {
+        final ConfigurationNode node = this.next;
+        this.next = null;
+        return node;
+    }
+
+    @Override
+    public void beginView() throws IOException {
+        expect(Token.BEGIN_VIEW);
+        this.frames.push(new Frame(consumeNode().getChildrenMap().values().iterator(), false));
+    }
+
+    @Override
+    public void endView() throws IOException {
+        expect(Token.END_VIEW);
+        this.frames.pop();
+    }
+
+    @Override
+    public void beginList() throws IOException {
+        expect(Token.BEGIN_LIST);
+        this.frames.push(new Frame(consumeNode().getChildrenList().iterator(), true));
+    }
+
+    @Override
+    public void endList() throws IOException {
+        expect(Token.END_LIST);
+        this.frames.pop();
+    }
+
+    @Override
+    public String nextKey() throws IOException {
+        expect(Token.KEY);
+        this.keyPending = false;
+        return String.valueOf(this.next.getKey());
+    }
+
+    @Nullable
+    @Override
+    Object nextScalar() throws IOException {
+        expect(Token.VALUE);
+        return consumeNode().getValue();
+    }
+
+    @Override
+    public void close() {
+        this.frames.clear();
+        this.next = null;
+    }
+
+}
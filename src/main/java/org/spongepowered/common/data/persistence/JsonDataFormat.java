@@ -56,7 +56,7 @@
 
 import javax.annotation.Nullable;
 
-public final class JsonDataFormat extends SpongeCatalogType implements StringDataFormat {
+public final class JsonDataFormat extends SpongeCatalogType implements StringDataFormat, StreamingDataFormat {
 
     public JsonDataFormat() {
         super("json");
@@ -141,7 +141,7 @@ private static Object read(JsonReader reader) throws IOException {
         }
     }
 
-    private static Number readNumber(JsonReader reader) throws IOException {
+    static Number readNumber(JsonReader reader) throws IOException {
         // Similar to https://github.com/zml2008/configurate/blob/master/configurate-gson/src/main/java/ninja/leaping/configurate/gson/GsonConfigurationLoader.java#L113
         // Not sure what's the best way to detect the type of number
         double nextDouble = reader.nextDouble();
@@ -170,6 +170,16 @@ private static List<?> readArray(JsonReader reader) throws IOException {
         return result;
     }
 
+    @Override
+    public DataStreamReader createReader(InputStream input) throws IOException {
+        return new JsonDataStreamReader(new JsonReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))));
+    }
+
+    @Override
+    public DataStreamWriter createWriter(OutputStream output) throws IOException {
+        return new JsonDataStreamWriter(new JsonWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))));
+    }
+
     @Override
     public void writeTo(OutputStream output, DataView data) throws IOException {
         try (JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)))) {
@@ -0,0 +1,117 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+
+import javax.annotation.Nullable;
+
+final class JsonDataStreamReader extends AbstractDataStreamReader {
+
+    private final JsonReader reader;
+
+    JsonDataStreamReader(JsonReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Token peek() throws IOException {
+        final JsonToken token = this.reader.peek();
+        switch (token) {
+            case BEGIN_OBJECT:
+                return Token.BEGIN_VIEW;
+            case END_OBJECT:
+                return Token.END_VIEW;
+            case BEGIN_ARRAY:
+                return Token.BEGIN_LIST;
+            case END_ARRAY:
+                return Token.END_LIST;
+            case NAME:
+                return Token.KEY;
+            case END_DOCUMENT:
+                return Token.END;
+            default:
+                return Token.VALUE;
+        }
+    }
+
+    @Override
+    public void beginView() throws IOException {
+        this.reader.beginObject();
+    }
+
+    @Override
+    public void endView() throws IOException {
+        this.reader.endObject();
+    }
+
+    @Override
+    public void beginList() throws IOException {
+        this.reader.beginArray();
+    }
+
+    @Override
+    public void endList() throws IOException {
+        this.reader.endArray();
+    }
+
+    @Override
+    public String nextKey() throws IOException {
+        return this.reader.nextName();
+    }
+
+    @Nullable
+    @Override
+    Object nextScalar() throws IOException {
+        final JsonToken token = this.reader.peek();
+        switch (token) {
+            case BOOLEAN:
+                return this.reader.nextBoolean();
+            case NULL:
+                this.reader.nextNull();
+                return null;
+            case STRING:
+                return this.reader.nextString();
+            case NUMBER:
+                return JsonDataFormat.readNumber(this.reader);
+            default:
+                throw new IOException("Unexpected token: " + token);
+        }
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        this.reader.skipValue();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+}
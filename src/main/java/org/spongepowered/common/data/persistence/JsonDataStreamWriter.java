@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+final class JsonDataStreamWriter extends AbstractDataStreamWriter {
+
+    private final JsonWriter writer;
+
+    JsonDataStreamWriter(JsonWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public DataStreamWriter beginView() throws IOException {
+        this.writer.beginObject();
+        return this;
+    }
+
+    @Override
+    public DataStreamWriter endView() throws IOException {
+        this.writer.endObject();
+        return this;
+    }
+
+    @Override
+    public DataStreamWriter beginList() throws IOException {
+        this.writer.beginArray();
+        return this;
+    }
+
+    @Override
+    public DataStreamWriter endList() throws IOException {
+        this.writer.endArray();
+        return this;
+    }
+
+    @Override
+    public DataStreamWriter key(String key) throws IOException {
+        this.writer.name(key);
+        return this;
+    }
+
+    @Override
+    void writeScalar(Object value) throws IOException {
+        if (value instanceof Boolean) {
+            this.writer.value((Boolean) value);
+        } else if (value instanceof Number) {
+            this.writer.value((Number) value);
+        } else if (value instanceof String) {
+            this.writer.value((String) value);
+        } else if (value instanceof byte[]) {
+            this.writer.beginArray();
+            for (byte element : (byte[]) value) {
+                this.writer.value(element);
+            }
+            this.writer.endArray();
+        } else if (value instanceof int[]) {
+            this.writer.beginArray();
+            for (int element : (int[]) value) {
+                this.writer.value(element);
+            }
+            this.writer.endArray();
+        } else if (value instanceof long[]) {
+            this.writer.beginArray();
+            for (long element : (long[]) value) {
+                this.writer.value(element);
+            }
+            this.writer.endArray();
+        } else {
+            throw new IllegalArgumentException("Unable to translate object to JSON: " + value);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+}
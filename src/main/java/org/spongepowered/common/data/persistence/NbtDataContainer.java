@@ -0,0 +1,72 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+
+import java.util.Optional;
+
+/**
+ * The root of a {@link NbtDataView}, see {@link NbtTranslator#wrap}.
+ */
+public class NbtDataContainer extends NbtDataView implements DataContainer {
+
+    public NbtDataContainer(NBTTagCompound compound) {
+        super(compound);
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.empty();
+    }
+
+    @Override
+    public final DataContainer getContainer() {
+        return this;
+    }
+
+    @Override
+    public DataContainer set(DataQuery path, Object value) {
+        return (DataContainer) super.set(path, value);
+    }
+
+    @Override
+    public <E> DataContainer set(Key<? extends BaseValue<E>> key, E value) {
+        return set(checkNotNull(key).getQuery(), value);
+    }
+
+    @Override
+    public DataContainer remove(DataQuery path) {
+        return (DataContainer) super.remove(path);
+    }
+
+}
@@ -28,17 +28,18 @@
 import net.minecraft.nbt.NBTTagCompound;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.data.DataView;
-import org.spongepowered.api.data.persistence.DataFormat;
 import org.spongepowered.api.data.persistence.InvalidDataFormatException;
 import org.spongepowered.common.SpongeCatalogType;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
-public class NbtDataFormat extends SpongeCatalogType implements DataFormat {
+public class NbtDataFormat extends SpongeCatalogType implements StreamingDataFormat {
 
     public NbtDataFormat(String id) {
         super(id);
@@ -61,6 +62,18 @@ public DataContainer readFrom(InputStream input) throws InvalidDataFormatExcepti
         }
     }
 
+    @Override
+    public DataStreamReader createReader(InputStream input) throws IOException {
+        return new NbtDataStreamReader(input instanceof DataInputStream ? (DataInputStream) input
+                : new DataInputStream(new BufferedInputStream(input)));
+    }
+
+    @Override
+    public DataStreamWriter createWriter(OutputStream output) throws IOException {
+        return new NbtDataStreamWriter(output instanceof DataOutputStream ? (DataOutputStream) output
+                : new DataOutputStream(new BufferedOutputStream(output)));
+    }
+
     @Override
     @SuppressWarnings("resource")
     public void writeTo(OutputStream output, DataView data) throws IOException {
@@ -0,0 +1,210 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import org.spongepowered.common.data.util.NbtDataUtil;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the uncompressed NBT format tag by tag, booleans are read in the
+ * format written by {@link NbtTranslator}.
+ */
+final class NbtDataStreamReader extends AbstractDataStreamReader {
+
+    private static final byte UNKNOWN = -1;
+
+    private static final class Frame {
+
+        private final boolean list;
+        private final byte listType;
+        private int remaining;
+
+        Frame(boolean list, byte listType, int remaining) {
+            this.list = list;
+            this.listType = listType;
+            this.remaining = remaining;
+        }
+
+    }
+
+    private final DataInputStream input;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private boolean rootRead;
+    // The type and key of the next entry of the current compound, the type is TAG_END once it is done
+    private byte nextType = UNKNOWN;
+    @Nullable private String nextKey;
+    private boolean nextBoolean;
+
+    NbtDataStreamReader(DataInputStream input) {
+        this.input = input;
+    }
+
+    private static Token tokenOf(byte type) {
+        switch (type) {
+            case NbtDataUtil.TAG_COMPOUND:
+                return Token.BEGIN_VIEW;
+            case NbtDataUtil.TAG_LIST:
+                return Token.BEGIN_LIST;
+            default:
+                return Token.VALUE;
+        }
+    }
+
+    @Override
+    public Token peek() throws IOException {
+        final Frame frame = this.frames.peek();
+        if (frame == null) {
+            if (!this.rootRead) {
+                this.rootRead = true;
+                if (this.input.readByte() != NbtDataUtil.TAG_COMPOUND) {
+                    throw new IOException("The root tag must be a compound");
+                }
+                this.input.readUTF();
+                this.nextType = NbtDataUtil.TAG_COMPOUND;
+            }
+            return this.nextType == NbtDataUtil.TAG_COMPOUND ? Token.BEGIN_VIEW : Token.END;
+        }
+        if (frame.list) {
+            return frame.remaining == 0 ? Token.END_LIST : tokenOf(frame.listType);
+        }
+        if (this.nextType == UNKNOWN) {
+            this.nextType = this.input.readByte();
+            if (this.nextType != NbtDataUtil.TAG_END) {
+                this.nextKey = this.input.readUTF();
+            }
+        }
+        if (this.nextType == NbtDataUtil.TAG_END) {
+            return Token.END_VIEW;
+        }
+        return this.nextKey != null ? Token.KEY : tokenOf(this.nextType);
+    }
+
+    private byte consumeValue() {
+        final Frame frame = this.frames.peek();
+        if (frame != null && frame.list) {
+            frame.remaining--;
+            return frame.listType;
+        }
+        final byte type = this.nextType;
+        this.nextType = UNKNOWN;
+        return type;
+    }
+
+    @Override
+    public void beginView() throws IOException {
+        expect(Token.BEGIN_VIEW);
+        consumeValue();
+        this.frames.push(new Frame(false, NbtDataUtil.TAG_END, 0));
+    }
+
+    @Override
+    public void endView() throws IOException {
+        expect(Token.END_VIEW);
+        this.frames.pop();
+        this.nextType = UNKNOWN;
+    }
+
+    @Override
+    public void beginList() throws IOException {
+        expect(Token.BEGIN_LIST);
+        consumeValue();
+        final byte listType = this.input.readByte();
+        final int length = this.input.readInt();
+        this.frames.push(new Frame(true, listType, length));
+    }
+
+    @Override
+    public void endList() throws IOException {
+        expect(Token.END_LIST);
+        this.frames.pop();
+    }
+
+    @Override
+    public String nextKey() throws IOException {
+        expect(Token.KEY);
+        String key = this.nextKey;
+        this.nextKey = null;
+        this.nextBoolean = this.nextType == NbtDataUtil.TAG_BYTE && key.endsWith(NbtTranslator.BOOLEAN_IDENTIFER);
+        if (this.nextBoolean) {
+            key = key.substring(0, key.length() - NbtTranslator.BOOLEAN_IDENTIFER.length());
+        }
+        return key;
+    }
+
+    @Override
+    Object nextScalar() throws IOException {
+        expect(Token.VALUE);
+        final boolean isBoolean = this.nextBoolean;
+        this.nextBoolean = false;
+        final byte type = consumeValue();
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                final byte value = this.input.readByte();
+                return isBoolean ? (Object) (value != 0) : (Object) value;
+            case NbtDataUtil.TAG_SHORT:
+                return this.input.readShort();
+            case NbtDataUtil.TAG_INT:
+                return this.input.readInt();
+            case NbtDataUtil.TAG_LONG:
+                return this.input.readLong();
+            case NbtDataUtil.TAG_FLOAT:
+                return this.input.readFloat();
+            case NbtDataUtil.TAG_DOUBLE:
+                return this.input.readDouble();
+            case NbtDataUtil.TAG_BYTE_ARRAY:
+                final byte[] bytes = new byte[this.input.readInt()];
+                this.input.readFully(bytes);
+                return bytes;
+            case NbtDataUtil.TAG_STRING:
+                return this.input.readUTF();
+            case NbtDataUtil.TAG_INT_ARRAY:
+                final int[] ints = new int[this.input.readInt()];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = this.input.readInt();
+                }
+                return ints;
+            case NbtDataUtil.TAG_LONG_ARRAY:
+                final long[] longs = new long[this.input.readInt()];
+                for (int i = 0; i < longs.length; i++) {
+                    longs[i] = this.input.readLong();
+                }
+                return longs;
+            default:
+                throw new IOException("Unknown NBT type " + type);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.input.close();
+    }
+
+}
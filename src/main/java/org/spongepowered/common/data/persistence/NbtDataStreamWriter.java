@@ -0,0 +1,236 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagByte;
+import net.minecraft.nbt.NBTTagByteArray;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagDouble;
+import net.minecraft.nbt.NBTTagFloat;
+import net.minecraft.nbt.NBTTagInt;
+import net.minecraft.nbt.NBTTagIntArray;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagLong;
+import net.minecraft.nbt.NBTTagShort;
+import net.minecraft.nbt.NBTTagString;
+import org.spongepowered.common.data.util.NbtDataUtil;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes the uncompressed NBT format. Compounds are streamed, but as NBT
+ * lists are prefixed by their length, lists and everything within them are
+ * built in memory and written once they are complete.
+ */
+final class NbtDataStreamWriter extends AbstractDataStreamWriter {
+
+    private static final class Frame {
+
+        // The buffered compound or list, null for compounds written to the output directly
+        @Nullable private final NBTBase tag;
+        @Nullable private String key;
+
+        Frame(@Nullable NBTBase tag) {
+            this.tag = tag;
+        }
+
+    }
+
+    private final DataOutputStream output;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private boolean rootWritten;
+
+    NbtDataStreamWriter(DataOutputStream output) {
+        this.output = output;
+    }
+
+    private Frame current() {
+        final Frame frame = this.frames.peek();
+        checkState(frame != null, "The root view is not open");
+        return frame;
+    }
+
+    private String takeKey(Frame frame) {
+        final String key = frame.key;
+        checkState(key != null, "Expected a key before the value");
+        frame.key = null;
+        return key;
+    }
+
+    @Override
+    public DataStreamWriter beginView() throws IOException {
+        final Frame parent = this.frames.peek();
+        if (parent == null) {
+            checkState(!this.rootWritten, "The root view was already written");
+            this.rootWritten = true;
+            this.output.writeByte(NbtDataUtil.TAG_COMPOUND);
+            this.output.writeUTF("");
+            this.frames.push(new Frame(null));
+        } else if (parent.tag == null) {
+            this.output.writeByte(NbtDataUtil.TAG_COMPOUND);
+            this.output.writeUTF(takeKey(parent));
+            this.frames.push(new Frame(null));
+        } else {
+            this.frames.push(new Frame(new NBTTagCompound()));
+        }
+        return this;
+    }
+
+    @Override
+    public DataStreamWriter endView() throws IOException {
+        final Frame frame = this.frames.pop();
+        checkState(frame.tag == null || frame.tag instanceof NBTTagCompound, "Expected the end of a list");
+        if (frame.tag == null) {
+            this.output.writeByte(NbtDataUtil.TAG_END);
+        } else {
+            append(frame.tag, false);
+        }
+        return this;
+    }
+
+    @Override
+    public DataStreamWriter beginList() throws IOException {
+        current();
+        this.frames.push(new Frame(new NBTTagList()));
+        return this;
+    }
+
+    @Override
+    public DataStreamWriter endList() throws IOException {
+        final Frame frame = this.frames.pop();
+        checkState(frame.tag instanceof NBTTagList, "Expected the end of a view");
+        append(frame.tag, false);
+        return this;
+    }
+
+    @Override
+    public DataStreamWriter key(String key) throws IOException {
+        final Frame frame = current();
+        checkState(!(frame.tag instanceof NBTTagList), "Lists don't have keys");
+        frame.key = key;
+        return this;
+    }
+
+    @Override
+    void writeScalar(Object value) throws IOException {
+        append(NbtTranslator.getBaseFromObject(value), value instanceof Boolean);
+    }
+
+    private void append(NBTBase tag, boolean isBoolean) throws IOException {
+        final Frame frame = current();
+        if (frame.tag instanceof NBTTagList) {
+            ((NBTTagList) frame.tag).appendTag(tag);
+            return;
+        }
+        String key = takeKey(frame);
+        if (isBoolean) {
+            key += NbtTranslator.BOOLEAN_IDENTIFER;
+        }
+        if (frame.tag != null) {
+            ((NBTTagCompound) frame.tag).setTag(key, tag);
+        } else {
+            this.output.writeByte(tag.getId());
+            this.output.writeUTF(key);
+            writePayload(tag);
+        }
+    }
+
+    private void writePayload(NBTBase tag) throws IOException {
+        switch (tag.getId()) {
+            case NbtDataUtil.TAG_BYTE:
+                this.output.writeByte(((NBTTagByte) tag).getByte());
+                break;
+            case NbtDataUtil.TAG_SHORT:
+                this.output.writeShort(((NBTTagShort) tag).getShort());
+                break;
+            case NbtDataUtil.TAG_INT:
+                this.output.writeInt(((NBTTagInt) tag).getInt());
+                break;
+            case NbtDataUtil.TAG_LONG:
+                this.output.writeLong(((NBTTagLong) tag).getLong());
+                break;
+            case NbtDataUtil.TAG_FLOAT:
+                this.output.writeFloat(((NBTTagFloat) tag).getFloat());
+                break;
+            case NbtDataUtil.TAG_DOUBLE:
+                this.output.writeDouble(((NBTTagDouble) tag).getDouble());
+                break;
+            case NbtDataUtil.TAG_BYTE_ARRAY:
+                final byte[] bytes = ((NBTTagByteArray) tag).getByteArray();
+                this.output.writeInt(bytes.length);
+                this.output.write(bytes);
+                break;
+            case NbtDataUtil.TAG_STRING:
+                this.output.writeUTF(((NBTTagString) tag).getString());
+                break;
+            case NbtDataUtil.TAG_LIST:
+                final NBTTagList list = (NBTTagList) tag;
+                this.output.writeByte(list.hasNoTags() ? NbtDataUtil.TAG_END : list.getTagType());
+                this.output.writeInt(list.tagCount());
+                for (int i = 0; i < list.tagCount(); i++) {
+                    writePayload(list.get(i));
+                }
+                break;
+            case NbtDataUtil.TAG_COMPOUND:
+                final NBTTagCompound compound = (NBTTagCompound) tag;
+                for (String key : compound.getKeySet()) {
+                    final NBTBase child = compound.getTag(key);
+                    this.output.writeByte(child.getId());
+                    this.output.writeUTF(key);
+                    writePayload(child);
+                }
+                this.output.writeByte(NbtDataUtil.TAG_END);
+                break;
+            case NbtDataUtil.TAG_INT_ARRAY:
+                final int[] ints = ((NBTTagIntArray) tag).getIntArray();
+                this.output.writeInt(ints.length);
+                for (int value : ints) {
+                    this.output.writeInt(value);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unable to write NBT type " + tag.getId());
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.output.close();
+    }
+
+}
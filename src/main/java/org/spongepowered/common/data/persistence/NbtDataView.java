@@ -0,0 +1,676 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTPrimitive;
+import net.minecraft.nbt.NBTTagByte;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.util.Coerce;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataView} backed directly by a {@link NBTTagCompound}. Values are
+ * converted from their tags when they are requested and written straight
+ * to the compound when they are set, nested compounds are exposed as views
+ * of the same compound tree.
+ *
+ * <p>Nothing is cloned, arrays returned by this view and lists of
+ * compounds share their data with the compound, so this is meant for
+ * short-lived views, such as a compound being serialized in to another
+ * {@link DataContainer}. Booleans are stored in the same format as
+ * {@link NbtTranslator} uses.</p>
+ */
+public class NbtDataView implements DataView {
+
+    final NBTTagCompound compound;
+    private final DataContainer container;
+    private final DataView parent;
+    private final DataQuery path;
+
+    NbtDataView(NBTTagCompound compound) {
+        checkState(this instanceof DataContainer, "Cannot construct a root NbtDataView without a container!");
+        this.compound = checkNotNull(compound, "compound");
+        this.path = of();
+        this.parent = this;
+        this.container = (DataContainer) this;
+    }
+
+    private NbtDataView(NbtDataView parent, String key, NBTTagCompound compound) {
+        this.compound = compound;
+        this.parent = parent;
+        this.container = parent.getContainer();
+        this.path = parent.getCurrentPath().then(of(key));
+    }
+
+    /**
+     * Gets the compound backing this view.
+     *
+     * @return The compound
+     */
+    public NBTTagCompound getCompound() {
+        return this.compound;
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this.container;
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        return this.path;
+    }
+
+    @Override
+    public String getName() {
+        List<String> parts = this.path.getParts();
+        return parts.isEmpty() ? "" : parts.get(parts.size() - 1);
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.ofNullable(this.parent);
+    }
+
+    private static String toKey(String tagKey) {
+        return tagKey.endsWith(NbtTranslator.BOOLEAN_IDENTIFER)
+               ? tagKey.substring(0, tagKey.length() - NbtTranslator.BOOLEAN_IDENTIFER.length())
+               : tagKey;
+    }
+
+    @Nullable
+    private NBTBase getTag(String key) {
+        final NBTBase tag = this.compound.getTag(key);
+        return tag != null ? tag : this.compound.getTag(key + NbtTranslator.BOOLEAN_IDENTIFER);
+    }
+
+    @Nullable
+    private NBTBase getTag(DataQuery path) {
+        final List<String> parts = path.getParts();
+        NBTTagCompound compound = this.compound;
+        for (int i = 0; i < parts.size() - 1; i++) {
+            final NBTBase tag = compound.getTag(parts.get(i));
+            if (!(tag instanceof NBTTagCompound)) {
+                return null;
+            }
+            compound = (NBTTagCompound) tag;
+        }
+        final String key = parts.get(parts.size() - 1);
+        final NBTBase tag = compound.getTag(key);
+        return tag != null ? tag : compound.getTag(key + NbtTranslator.BOOLEAN_IDENTIFER);
+    }
+
+    @Nullable
+    private NbtDataView getChildView(String key) {
+        final NBTBase tag = this.compound.getTag(key);
+        return tag instanceof NBTTagCompound ? new NbtDataView(this, key, (NBTTagCompound) tag) : null;
+    }
+
+    private Object fromTag(String key, NBTBase tag) {
+        if (tag instanceof NBTTagCompound) {
+            return new NbtDataView(this, key, (NBTTagCompound) tag);
+        } else if (tag instanceof NBTTagList) {
+            return fromList((NBTTagList) tag);
+        } else if (tag instanceof NBTTagByte && this.compound.hasKey(key + NbtTranslator.BOOLEAN_IDENTIFER)) {
+            return ((NBTTagByte) tag).getByte() != 0;
+        }
+        return NbtTranslator.fromTagBase(tag, tag.getId());
+    }
+
+    private static List<Object> fromList(NBTTagList list) {
+        final int count = list.tagCount();
+        final List<Object> objectList = Lists.newArrayListWithCapacity(count);
+        for (int i = 0; i < count; i++) {
+            final NBTBase element = list.get(i);
+            if (element instanceof NBTTagCompound) {
+                objectList.add(new NbtDataContainer((NBTTagCompound) element));
+            } else if (element instanceof NBTTagList) {
+                objectList.add(fromList((NBTTagList) element));
+            } else {
+                objectList.add(NbtTranslator.fromTagBase(element, element.getId()));
+            }
+        }
+        return objectList;
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        for (String tagKey : this.compound.getKeySet()) {
+            final DataQuery query = of(toKey(tagKey));
+            builder.add(query);
+            if (deep) {
+                final NbtDataView view = getChildView(tagKey);
+                if (view != null) {
+                    for (DataQuery subQuery : view.getKeys(true)) {
+                        builder.add(query.then(subQuery));
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Map<DataQuery, Object> getValues(boolean deep) {
+        ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
+        for (DataQuery query : getKeys(deep)) {
+            Object value = get(query).get();
+            if (value instanceof DataView) {
+                builder.put(query, ((DataView) value).getValues(deep));
+            } else {
+                builder.put(query, value);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        checkNotNull(path, "path");
+        return !path.getParts().isEmpty() && getTag(path) != null;
+    }
+
+    @Override
+    public boolean contains(DataQuery path, DataQuery... paths) {
+        checkNotNull(path, "DataQuery cannot be null!");
+        checkNotNull(paths, "DataQuery varargs cannot be null!");
+        if (!contains(path)) {
+            return false;
+        }
+        for (DataQuery query : paths) {
+            if (!contains(checkNotNull(query, "No null queries!"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        checkNotNull(path, "path");
+        List<String> queryParts = path.getParts();
+        if (queryParts.isEmpty()) {
+            return Optional.of(this);
+        }
+        String key = queryParts.get(0);
+        if (queryParts.size() == 1) {
+            final NBTBase tag = getTag(key);
+            if (tag == null) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(fromTag(key, tag));
+        }
+        final NbtDataView view = getChildView(key);
+        return view == null ? Optional.empty() : view.get(path.popFirst());
+    }
+
+    @Override
+    public DataView set(DataQuery path, Object value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+        List<String> parts = path.getParts();
+        checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+        String key = parts.get(0);
+        if (parts.size() > 1) {
+            NbtDataView view = getChildView(key);
+            if (view == null) {
+                view = (NbtDataView) createView(of(key));
+            }
+            view.set(path.popFirst(), value);
+            return this;
+        }
+        checkArgument(value != this, "Cannot set a DataView to itself.");
+        this.compound.removeTag(key);
+        this.compound.removeTag(key + NbtTranslator.BOOLEAN_IDENTIFER);
+        if (value instanceof Boolean) {
+            this.compound.setTag(key + NbtTranslator.BOOLEAN_IDENTIFER, new NBTTagByte((Boolean) value ? (byte) 1 : 0));
+        } else if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long
+                || value instanceof Float || value instanceof Double || value instanceof String || value instanceof byte[] || value instanceof int[]) {
+            this.compound.setTag(key, NbtTranslator.getBaseFromObject(value));
+        } else if (value instanceof NbtDataView) {
+            this.compound.setTag(key, ((NbtDataView) value).compound.copy());
+        } else if (value instanceof DataView) {
+            this.compound.setTag(key, NbtTranslator.containerToCompound((DataView) value));
+        } else {
+            // Serializables, catalog types, collections and maps are resolved by the memory
+            // implementation first, as it knows how to serialize all of them
+            final DataContainer serialized = DataContainer.createNew(SafetyMode.NO_DATA_CLONED).set(of(key), value);
+            NbtTranslator.containerToCompound(serialized, this.compound);
+        }
+        return this;
+    }
+
+    @Override
+    public <E> DataView set(Key<? extends BaseValue<E>> key, E value) {
+        return set(checkNotNull(key, "Key was null!").getQuery(), value);
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        checkNotNull(path, "path");
+        List<String> parts = path.getParts();
+        if (parts.size() > 1) {
+            final NbtDataView view = getChildView(parts.get(0));
+            if (view != null) {
+                view.remove(path.popFirst());
+            }
+        } else if (!parts.isEmpty()) {
+            this.compound.removeTag(parts.get(0));
+            this.compound.removeTag(parts.get(0) + NbtTranslator.BOOLEAN_IDENTIFER);
+        }
+        return this;
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        checkNotNull(path, "path");
+        List<String> queryParts = path.getParts();
+        checkArgument(!queryParts.isEmpty(), "The size of the query must be at least 1");
+        String key = queryParts.get(0);
+        if (queryParts.size() == 1) {
+            final NBTTagCompound compound = new NBTTagCompound();
+            this.compound.removeTag(key + NbtTranslator.BOOLEAN_IDENTIFER);
+            this.compound.setTag(key, compound);
+            return new NbtDataView(this, key, compound);
+        }
+        NbtDataView view = getChildView(key);
+        if (view == null) {
+            view = (NbtDataView) createView(of(key));
+        }
+        return view.createView(path.popFirst());
+    }
+
+    @Override
+    public DataView createView(DataQuery path, Map<?, ?> map) {
+        checkNotNull(path, "path");
+        DataView section = createView(path);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() instanceof Map) {
+                section.createView(of('.', entry.getKey().toString()), (Map<?, ?>) entry.getValue());
+            } else {
+                section.set(of('.', entry.getKey().toString()), entry.getValue());
+            }
+        }
+        return section;
+    }
+
+    @Override
+    public Optional<DataView> getView(DataQuery path) {
+        return get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
+    }
+
+    @Override
+    public Optional<? extends Map<?, ?>> getMap(DataQuery path) {
+        return getView(path).map(view -> (Map<?, ?>) ensureMappingOf(view));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Object ensureMappingOf(Object object) {
+        if (object instanceof DataView) {
+            final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+            for (Map.Entry<DataQuery, Object> entry : ((DataView) object).getValues(false).entrySet()) {
+                builder.put(entry.getKey().asString('.'), ensureMappingOf(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Map) {
+            final ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                builder.put(entry.getKey().toString(), ensureMappingOf(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Collection) {
+            final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+            for (Object entry : (Collection) object) {
+                builder.add(ensureMappingOf(entry));
+            }
+            return builder.build();
+        }
+        return object;
+    }
+
+    @Nullable
+    private NBTPrimitive getPrimitive(DataQuery path) {
+        checkNotNull(path, "path");
+        if (path.getParts().isEmpty()) {
+            return null;
+        }
+        final NBTBase tag = getTag(path);
+        return tag instanceof NBTPrimitive ? (NBTPrimitive) tag : null;
+    }
+
+    // The numeric getters read primitive tags directly, anything else is coerced like the memory implementation
+
+    @Override
+    public Optional<Boolean> getBoolean(DataQuery path) {
+        final NBTPrimitive tag = getPrimitive(path);
+        return tag != null ? Optional.of(tag.getByte() != 0) : get(path).flatMap(Coerce::asBoolean);
+    }
+
+    @Override
+    public Optional<Byte> getByte(DataQuery path) {
+        final NBTPrimitive tag = getPrimitive(path);
+        return tag != null ? Optional.of(tag.getByte()) : get(path).flatMap(Coerce::asByte);
+    }
+
+    @Override
+    public Optional<Short> getShort(DataQuery path) {
+        final NBTPrimitive tag = getPrimitive(path);
+        return tag != null ? Optional.of(tag.getShort()) : get(path).flatMap(Coerce::asShort);
+    }
+
+    @Override
+    public Optional<Integer> getInt(DataQuery path) {
+        final NBTPrimitive tag = getPrimitive(path);
+        return tag != null ? Optional.of(tag.getInt()) : get(path).flatMap(Coerce::asInteger);
+    }
+
+    @Override
+    public Optional<Long> getLong(DataQuery path) {
+        final NBTPrimitive tag = getPrimitive(path);
+        return tag != null ? Optional.of(tag.getLong()) : get(path).flatMap(Coerce::asLong);
+    }
+
+    @Override
+    public Optional<Float> getFloat(DataQuery path) {
+        final NBTPrimitive tag = getPrimitive(path);
+        return tag != null ? Optional.of(tag.getFloat()) : get(path).flatMap(Coerce::asFloat);
+    }
+
+    @Override
+    public Optional<Double> getDouble(DataQuery path) {
+        final NBTPrimitive tag = getPrimitive(path);
+        return tag != null ? Optional.of(tag.getDouble()) : get(path).flatMap(Coerce::asDouble);
+    }
+
+    @Override
+    public Optional<String> getString(DataQuery path) {
+        checkNotNull(path, "path");
+        final NBTBase tag = path.getParts().isEmpty() ? null : getTag(path);
+        if (tag instanceof NBTTagString) {
+            return Optional.of(((NBTTagString) tag).getString());
+        }
+        return get(path).flatMap(Coerce::asString);
+    }
+
+    @Override
+    public Optional<List<?>> getList(DataQuery path) {
+        return getUnsafeList(path).map(ArrayList::new);
+    }
+
+    private Optional<List<?>> getUnsafeList(DataQuery path) {
+        return get(path)
+                .filter(obj -> obj instanceof List<?> || obj instanceof Object[])
+                .map(obj -> {
+                    if (obj instanceof List<?>) {
+                        return (List<?>) obj;
+                    }
+                    return Arrays.asList((Object[]) obj);
+                });
+    }
+
+    private <T> Optional<List<T>> getCoercedList(DataQuery path, Function<Object, Optional<T>> coercion) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .map(coercion)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<String>> getStringList(DataQuery path) {
+        return getCoercedList(path, Coerce::asString);
+    }
+
+    @Override
+    public Optional<List<Character>> getCharacterList(DataQuery path) {
+        return getCoercedList(path, Coerce::asChar);
+    }
+
+    @Override
+    public Optional<List<Boolean>> getBooleanList(DataQuery path) {
+        return getCoercedList(path, Coerce::asBoolean);
+    }
+
+    @Override
+    public Optional<List<Byte>> getByteList(DataQuery path) {
+        return getCoercedList(path, Coerce::asByte);
+    }
+
+    @Override
+    public Optional<List<Short>> getShortList(DataQuery path) {
+        return getCoercedList(path, Coerce::asShort);
+    }
+
+    @Override
+    public Optional<List<Integer>> getIntegerList(DataQuery path) {
+        return getCoercedList(path, Coerce::asInteger);
+    }
+
+    @Override
+    public Optional<List<Long>> getLongList(DataQuery path) {
+        return getCoercedList(path, Coerce::asLong);
+    }
+
+    @Override
+    public Optional<List<Float>> getFloatList(DataQuery path) {
+        return getCoercedList(path, Coerce::asFloat);
+    }
+
+    @Override
+    public Optional<List<Double>> getDoubleList(DataQuery path) {
+        return getCoercedList(path, Coerce::asDouble);
+    }
+
+    @Override
+    public Optional<List<Map<?, ?>>> getMapList(DataQuery path) {
+        // Compounds in lists are views, the memory implementation only returns stored maps
+        return getUnsafeList(path).<List<Map<?, ?>>>map(list ->
+                list.stream()
+                        .filter(obj -> obj instanceof DataView)
+                        .map(obj -> (Map<?, ?>) ensureMappingOf(obj))
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<DataView>> getViewList(DataQuery path) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .filter(obj -> obj instanceof DataView)
+                        .map(obj -> (DataView) obj)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends DataSerializable> Optional<T> getSerializable(DataQuery path, Class<T> clazz) {
+        checkNotNull(path, "path");
+        checkNotNull(clazz, "clazz");
+        if (clazz.isAssignableFrom(CatalogType.class)) {
+            final Optional<T> catalog = (Optional<T>) getCatalogType(path, ((Class<? extends CatalogType>) clazz));
+            if (catalog.isPresent()) {
+                return catalog;
+            }
+        }
+        return getView(path).flatMap(view -> Sponge.getDataManager().getBuilder(clazz)
+                .flatMap(builder -> builder.build(view))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQuery path, Class<T> clazz) {
+        checkNotNull(path, "path");
+        checkNotNull(clazz, "clazz");
+        return Stream.<Supplier<Optional<List<T>>>>of(
+            () -> {
+                if (clazz.isAssignableFrom(CatalogType.class)) {
+                    return (Optional<List<T>>) (Optional<?>) getCatalogTypeList(path, (Class<? extends CatalogType>) clazz);
+                }
+                return Optional.empty();
+            },
+            () -> getViewList(path).flatMap(list ->
+                    Sponge.getDataManager().getBuilder(clazz).map(builder ->
+                            list.stream()
+                                    .map(builder::build)
+                                    .filter(Optional::isPresent)
+                                    .map(Optional::get)
+                                    .collect(Collectors.toList())
+                    )
+                )
+            )
+            .map(Supplier::get)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .findFirst();
+    }
+
+    @Override
+    public <T extends CatalogType> Optional<T> getCatalogType(DataQuery path, Class<T> catalogType) {
+        checkNotNull(path, "path");
+        checkNotNull(catalogType, "dummy type");
+        return getString(path).flatMap(string -> Sponge.getRegistry().getType(catalogType, string));
+    }
+
+    @Override
+    public <T extends CatalogType> Optional<List<T>> getCatalogTypeList(DataQuery path, Class<T> catalogType) {
+        checkNotNull(path, "path");
+        checkNotNull(catalogType, "catalogType");
+        return getStringList(path).map(list ->
+                list.stream()
+                        .map(string -> Sponge.getRegistry().getType(catalogType, string))
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public <T> Optional<T> getObject(DataQuery path, Class<T> objectClass) {
+        return getView(path).flatMap(view ->
+                Sponge.getDataManager().getTranslator(objectClass)
+                        .flatMap(serializer -> Optional.of(serializer.translate(view)))
+        );
+    }
+
+    @Override
+    public <T> Optional<List<T>> getObjectList(DataQuery path, Class<T> objectClass) {
+        return getViewList(path).flatMap(viewList ->
+                Sponge.getDataManager().getTranslator(objectClass).map(serializer ->
+                        viewList.stream()
+                                .map(serializer::translate)
+                                .collect(Collectors.toList())
+                )
+        );
+    }
+
+    @Override
+    public DataContainer copy() {
+        return new NbtDataContainer(this.compound.copy());
+    }
+
+    @Override
+    public DataContainer copy(SafetyMode safety) {
+        final DataContainer container = DataContainer.createNew(safety);
+        NbtTranslator.getInstance().addTo(this.compound, container);
+        return container;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.compound.hasNoTags();
+    }
+
+    @Override
+    public SafetyMode getSafetyMode() {
+        return SafetyMode.NO_DATA_CLONED;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.compound, this.path);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final NbtDataView other = (NbtDataView) obj;
+        return Objects.equal(this.compound, other.compound)
+               && Objects.equal(this.path, other.path);
+    }
+
+    @Override
+    public String toString() {
+        final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
+        if (!this.path.toString().isEmpty()) {
+            helper.add("path", this.path);
+        }
+        return helper.add("compound", this.compound).toString();
+    }
+}
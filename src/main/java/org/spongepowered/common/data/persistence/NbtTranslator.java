@@ -66,14 +66,17 @@ public static NbtTranslator getInstance() {
 
     private NbtTranslator() { } // #NOPE
 
-    private static NBTTagCompound containerToCompound(final DataView container) {
+    static NBTTagCompound containerToCompound(final DataView container) {
         checkNotNull(container);
+        if (container instanceof NbtDataView) {
+            return ((NbtDataView) container).compound.copy();
+        }
         NBTTagCompound compound = new NBTTagCompound();
         containerToCompound(container, compound);
         return compound;
     }
 
-    private static void containerToCompound(final DataView container, final NBTTagCompound compound) {
+    static void containerToCompound(final DataView container, final NBTTagCompound compound) {
         // We don't need to get deep values since all nested DataViews will be found
         // from the instance of checks.
         checkNotNull(container);
@@ -94,7 +97,7 @@ private static void containerToCompound(final DataView container, final NBTTagCo
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static NBTBase getBaseFromObject(Object value) {
+    static NBTBase getBaseFromObject(Object value) {
         checkNotNull(value);
         if (value instanceof Boolean) {
             return new NBTTagByte((Boolean) value ? (byte) 1 : 0);
@@ -239,7 +242,7 @@ private static void setInternal(NBTBase base, byte type, DataView view, String k
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Object fromTagBase(NBTBase base, byte type) {
+    static Object fromTagBase(NBTBase base, byte type) {
         switch (type) {
             case NbtDataUtil.TAG_BYTE:
                 return ((NBTTagByte) base).getByte();
@@ -287,6 +290,19 @@ public DataContainer translateFrom(NBTTagCompound node) {
         return NbtTranslator.getViewFromCompound(node);
     }
 
+    /**
+     * Wraps the compound in a {@link DataContainer} that reads and writes
+     * the compound directly instead of copying it, see {@link NbtDataView}.
+     * Changes to either are visible through the other, so the container
+     * should not outlive the current use of the compound.
+     *
+     * @param node The compound to wrap
+     * @return The container backed by the compound
+     */
+    public DataContainer wrap(NBTTagCompound node) {
+        return new NbtDataContainer(checkNotNull(node));
+    }
+
     @Override
     public TypeToken<NBTTagCompound> getToken() {
         return TOKEN;
@@ -69,6 +69,16 @@ public boolean supports(DataHolder dataHolder) {
         return this.holderClass.isInstance(dataHolder) && supports((Holder) dataHolder);
     }
 
+    @Override
+    public boolean canSupportHolder(Class<?> holderClass) {
+        return this.holderClass.isAssignableFrom(holderClass);
+    }
+
+    @Override
+    public boolean canSupportContainer(Class<?> containerClass) {
+        return this.holderClass.isAssignableFrom(containerClass);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
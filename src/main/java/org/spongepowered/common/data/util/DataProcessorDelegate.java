@@ -27,6 +27,7 @@
 import co.aikar.timings.SpongeTimingsFactory;
 import co.aikar.timings.Timing;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataTransactionResult;
@@ -41,11 +42,17 @@
 import org.spongepowered.common.data.DataProcessor;
 import org.spongepowered.common.util.ServerUtils;
 
+import java.util.Map;
 import java.util.Optional;
 
 public final class DataProcessorDelegate<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> implements DataProcessor<M, I> {
 
     private final ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors;
+    // The processors that may support each concrete holder class, empty if none do
+    private final Map<Class<?>, ImmutableList<Tuple<DataProcessor<M, I>, Timing>>> processorsByHolder = new MapMaker()
+        .weakKeys()
+        .concurrencyLevel(4)
+        .makeMap();
 
     public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
@@ -55,6 +62,22 @@ public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         this.processors = builder.build();
     }
 
+    private ImmutableList<Tuple<DataProcessor<M, I>, Timing>> getProcessors(DataHolder dataHolder) {
+        final Class<?> holderClass = dataHolder.getClass();
+        ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors = this.processorsByHolder.get(holderClass);
+        if (processors == null) {
+            final ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
+            for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+                if (tuple.getFirst().canSupportHolder(holderClass)) {
+                    builder.add(tuple);
+                }
+            }
+            processors = builder.build();
+            this.processorsByHolder.put(holderClass, processors);
+        }
+        return processors;
+    }
+
     @Override
     public int getPriority() {
         return Integer.MAX_VALUE;
@@ -64,7 +87,7 @@ public int getPriority() {
     public boolean supports(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -90,7 +113,7 @@ public boolean supports(EntityType entityType) {
     public Optional<M> from(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -115,7 +138,7 @@ public Optional<M> from(DataHolder dataHolder) {
     public Optional<M> fill(DataHolder dataHolder, M manipulator, MergeFunction overlap) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -159,7 +182,7 @@ public Optional<M> fill(DataContainer container, M m) {
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -203,7 +226,7 @@ public Optional<I> with(Key<? extends BaseValue<?>> key, Object value, I immutab
     public DataTransactionResult remove(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -228,7 +251,7 @@ public DataTransactionResult remove(DataHolder dataHolder) {
     public Optional<M> createFrom(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder)) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -25,6 +25,7 @@
 package org.spongepowered.common.data.util;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
 import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.value.BaseValue;
@@ -32,6 +33,7 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.common.data.ValueProcessor;
 
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -45,12 +47,33 @@
 
     private final Key<V> key;
     private final ImmutableList<ValueProcessor<E, V>> processors;
+    // The processors that may support each concrete container class, empty if none do
+    private final Map<Class<?>, ImmutableList<ValueProcessor<E, V>>> processorsByContainer = new MapMaker()
+        .weakKeys()
+        .concurrencyLevel(4)
+        .makeMap();
 
     public ValueProcessorDelegate(Key<V> key, ImmutableList<ValueProcessor<E, V>> processors) {
         this.key = key;
         this.processors = processors;
     }
 
+    private ImmutableList<ValueProcessor<E, V>> getProcessors(ValueContainer<?> container) {
+        final Class<?> containerClass = container.getClass();
+        ImmutableList<ValueProcessor<E, V>> processors = this.processorsByContainer.get(containerClass);
+        if (processors == null) {
+            final ImmutableList.Builder<ValueProcessor<E, V>> builder = ImmutableList.builder();
+            for (ValueProcessor<E, V> processor : this.processors) {
+                if (processor.canSupportContainer(containerClass)) {
+                    builder.add(processor);
+                }
+            }
+            processors = builder.build();
+            this.processorsByContainer.put(containerClass, processors);
+        }
+        return processors;
+    }
+
     @Override
     public Key<? extends BaseValue<E>> getKey() {
         return this.key;
@@ -63,7 +86,7 @@ public int getPriority() {
 
     @Override
     public Optional<E> getValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 final Optional<E> optional = processor.getValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -76,7 +99,7 @@ public Optional<E> getValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -89,7 +112,7 @@ public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public boolean supports(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 return true;
             }
@@ -99,7 +122,7 @@ public boolean supports(ValueContainer<?> container) {
 
     @Override
     public DataTransactionResult offerToStore(ValueContainer<?> container, E value) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 final DataTransactionResult result = processor.offerToStore(container, value);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
@@ -107,7 +130,7 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
                 }
             }
         }
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -122,7 +145,7 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
 
     @Override
     public DataTransactionResult removeFrom(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container)) {
             if (processor.supports(container)) {
                 final DataTransactionResult result = processor.removeFrom(container);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
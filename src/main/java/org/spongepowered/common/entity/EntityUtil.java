@@ -113,6 +113,7 @@
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.registry.type.entity.ProfessionRegistryModule;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ParallelWorldTicker;
 import org.spongepowered.common.world.WorldManager;
 
 import java.util.ArrayList;
@@ -149,15 +150,31 @@ public boolean apply(Entity entity) {
      * {@link Entity#changeDimension(int)}. This is mostly for debugging
      * purposes, but as well as ensuring that the phases are entered and exited correctly.
      *
+     * <p>While worlds are ticked in parallel, the transfer is deferred until
+     * all worlds finished their tick and the entity is returned as is, still
+     * in its current world. The transfer is dropped if the entity died or
+     * changed worlds in the meantime.</p>
+     *
      * @param mixinEntity The mixin entity being called
      * @param toSuggestedDimension The target dimension id suggested by mods and vanilla alike. The suggested
      *     dimension id can be erroneous and Vanilla will re-assign the variable to the overworld for
      *     silly things like entering an end portal while in the end.
-     * @return The entity, if the teleport was not cancelled or something.
+     * @return The entity, if the teleport was not cancelled or something, or
+     *     the untransferred entity if the transfer was deferred
      */
     @Nullable
     public static Entity transferEntityToDimension(IMixinEntity mixinEntity, int toSuggestedDimension) {
         final Entity entity = toNative(mixinEntity);
+        if (ParallelWorldTicker.isTickingWorld()) {
+            // Other worlds may not be touched while they tick, transfer the entity once all worlds are done
+            final net.minecraft.world.World fromWorld = entity.world;
+            ParallelWorldTicker.runAfterWorldTicks(() -> {
+                if (!entity.isDead && entity.world == fromWorld) {
+                    transferEntityToDimension(mixinEntity, toSuggestedDimension);
+                }
+            });
+            return entity;
+        }
         // handle portal event
         MoveEntityEvent.Teleport.Portal event = handleDisplaceEntityPortalEvent(entity, toSuggestedDimension, null);
         if (event == null || event.isCancelled()) {
@@ -191,12 +208,25 @@ public static Entity transferEntityToDimension(IMixinEntity mixinEntity, int toS
      * A relative copy paste of {@link EntityPlayerMP#changeDimension(int)} where instead we direct all processing
      * to the appropriate areas for throwing events and capturing world changes during the transfer.
      *
+     * <p>While worlds are ticked in parallel, the teleport is deferred until
+     * all worlds finished their tick.</p>
+     *
      * @param mixinEntityPlayerMP The player being teleported
      * @param suggestedDimensionId The suggested dimension
      * @return The player object, not re-created
      */
     @Nullable
     public static Entity teleportPlayerToDimension(EntityPlayerMP entityPlayerMP, int suggestedDimensionId) {
+        if (ParallelWorldTicker.isTickingWorld()) {
+            // Other worlds may not be touched while they tick, teleport the player once all worlds are done
+            final net.minecraft.world.World fromWorld = entityPlayerMP.world;
+            ParallelWorldTicker.runAfterWorldTicks(() -> {
+                if (!entityPlayerMP.isDead && entityPlayerMP.world == fromWorld) {
+                    teleportPlayerToDimension(entityPlayerMP, suggestedDimensionId);
+                }
+            });
+            return entityPlayerMP;
+        }
         // Fire teleport event here to support Forge's EntityTravelDimensionEvent
         // This also prevents sending client wrong data if event is cancelled
         WorldServer toWorld = SpongeImpl.getServer().getWorld(suggestedDimensionId);
@@ -0,0 +1,207 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Stores the owner and notifier indices of tracked blocks of a single chunk.
+ *
+ * <p>Positions are keyed by their packed chunk relative position, and both
+ * indices are packed into a single long, so lookups are constant time and
+ * never box. The indices refer to the unique id table of the world, see
+ * {@code IMixinWorldInfo#getUniqueIdForIndex}.</p>
+ */
+public final class PlayerTrackerStore {
+
+    public static final int NO_INDEX = -1;
+
+    private static final int XZ_MASK = 0xF;
+    private static final int Y_SHIFT = 4;
+    private static final int Y_MASK = 0xFFFFFF;
+    private static final int Z_SHIFT = 28;
+    private static final int SHORT_Y_MASK = 0xFF;
+    private static final int SHORT_Z_SHIFT = 12;
+    private static final long ABSENT = pack(NO_INDEX, NO_INDEX);
+
+    private final Int2LongOpenHashMap trackers;
+
+    public PlayerTrackerStore() {
+        this.trackers = new Int2LongOpenHashMap();
+        this.trackers.defaultReturnValue(ABSENT);
+    }
+
+    /**
+     * Creates a store from parallel arrays of keys, owner indices and
+     * notifier indices, as written by {@link #toArrays()}.
+     *
+     * @param positions The keys
+     * @param owners The owner indices
+     * @param notifiers The notifier indices
+     */
+    public PlayerTrackerStore(int[] positions, int[] owners, int[] notifiers) {
+        checkArgument(positions.length == owners.length && positions.length == notifiers.length,
+                "Mismatched tracker array lengths %s, %s, %s", positions.length, owners.length, notifiers.length);
+        this.trackers = new Int2LongOpenHashMap(positions.length);
+        this.trackers.defaultReturnValue(ABSENT);
+        for (int i = 0; i < positions.length; i++) {
+            set(positions[i], owners[i], notifiers[i]);
+        }
+    }
+
+    /**
+     * Gets the key of a position, the low 4 bits of x and z and the low 24 bits
+     * of y, laid out as {@code z << 28 | y << 4 | x}.
+     *
+     * @param pos The position
+     * @return The key
+     */
+    public static int key(BlockPos pos) {
+        return key(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public static int key(int x, int y, int z) {
+        return (z & XZ_MASK) << Z_SHIFT | (y & Y_MASK) << Y_SHIFT | (x & XZ_MASK);
+    }
+
+    /**
+     * Converts a position serialized as {@code z << 12 | y << 4 | x}, as used
+     * for positions below y 256, to a key.
+     *
+     * @param serialized The short serialized position
+     * @return The key
+     */
+    public static int fromShort(short serialized) {
+        return key(serialized & XZ_MASK, (serialized >> Y_SHIFT) & SHORT_Y_MASK, (serialized >> SHORT_Z_SHIFT) & XZ_MASK);
+    }
+
+    public static short toShort(int key) {
+        return (short) ((getZ(key) << SHORT_Z_SHIFT) | (getY(key) << Y_SHIFT) | getX(key));
+    }
+
+    public static boolean fitsShort(int key) {
+        return getY(key) <= SHORT_Y_MASK;
+    }
+
+    public static int getX(int key) {
+        return key & XZ_MASK;
+    }
+
+    public static int getY(int key) {
+        return (key >>> Y_SHIFT) & Y_MASK;
+    }
+
+    public static int getZ(int key) {
+        return (key >>> Z_SHIFT) & XZ_MASK;
+    }
+
+    private static long pack(int owner, int notifier) {
+        return ((long) owner << 32) | (notifier & 0xFFFFFFFFL);
+    }
+
+    public boolean isEmpty() {
+        return this.trackers.isEmpty();
+    }
+
+    public int size() {
+        return this.trackers.size();
+    }
+
+    public boolean contains(int key) {
+        return this.trackers.containsKey(key);
+    }
+
+    public int getOwner(int key) {
+        return (int) (this.trackers.get(key) >> 32);
+    }
+
+    public int getNotifier(int key) {
+        return (int) this.trackers.get(key);
+    }
+
+    public void set(int key, int owner, int notifier) {
+        if (owner == NO_INDEX && notifier == NO_INDEX) {
+            this.trackers.remove(key);
+        } else {
+            this.trackers.put(key, pack(owner, notifier));
+        }
+    }
+
+    public void setOwner(int key, int owner) {
+        set(key, owner, getNotifier(key));
+    }
+
+    public void setNotifier(int key, int notifier) {
+        set(key, getOwner(key), notifier);
+    }
+
+    public void remove(int key) {
+        this.trackers.remove(key);
+    }
+
+    public void clear() {
+        this.trackers.clear();
+    }
+
+    /**
+     * Gets the tracked blocks as parallel arrays of keys, owner indices and
+     * notifier indices.
+     *
+     * @return The keys, owners and notifiers, in that order
+     */
+    public int[][] toArrays() {
+        final int size = this.trackers.size();
+        final int[] positions = new int[size];
+        final int[] owners = new int[size];
+        final int[] notifiers = new int[size];
+        int i = 0;
+        for (Int2LongMap.Entry entry : this.trackers.int2LongEntrySet()) {
+            final long value = entry.getLongValue();
+            positions[i] = entry.getIntKey();
+            owners[i] = (int) (value >> 32);
+            notifiers[i] = (int) value;
+            i++;
+        }
+        return new int[][] {positions, owners, notifiers};
+    }
+
+    public void forEach(Consumer consumer) {
+        for (Int2LongMap.Entry entry : this.trackers.int2LongEntrySet()) {
+            final long value = entry.getLongValue();
+            consumer.accept(entry.getIntKey(), (int) (value >> 32), (int) value);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Consumer {
+
+        void accept(int key, int owner, int notifier);
+
+    }
+}
@@ -203,7 +203,7 @@ public DataContainer toContainer() {
             container.set(DataQueries.ENTITY_ID, this.entityUuid.toString());
         }
         if (this.compound != null) {
-            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().wrap(this.compound));
         }
 
         return container;
@@ -0,0 +1,223 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import com.google.gson.stream.JsonWriter;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long each registered listener takes to handle each type of
+ * event while enabled.
+ *
+ * <p>Durations are kept in a histogram of power of two nanosecond buckets,
+ * so recording a call never allocates once the listener has seen the
+ * event type.</p>
+ */
+public final class EventListenerProfiler {
+
+    /**
+     * Bucket {@code i} holds calls which took between {@code 2^i} and
+     * {@code 2^(i+1)} nanoseconds, the last bucket holds everything slower.
+     */
+    public static final int BUCKETS = 32;
+
+    private static final Map<RegisteredListener<?>, Map<Class<?>, ListenerStats>> stats = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = SpongeImpl.getGlobalConfig().getConfig().getDebug().profileEventListeners();
+
+    private EventListenerProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        EventListenerProfiler.enabled = enabled;
+    }
+
+    public static void reset() {
+        stats.clear();
+    }
+
+    static void record(RegisteredListener<?> listener, Class<? extends Event> eventClass, long nanos) {
+        Map<Class<?>, ListenerStats> byEvent = stats.get(listener);
+        if (byEvent == null) {
+            byEvent = stats.computeIfAbsent(listener, key -> new ConcurrentHashMap<>());
+        }
+        ListenerStats listenerStats = byEvent.get(eventClass);
+        if (listenerStats == null) {
+            listenerStats = byEvent.computeIfAbsent(eventClass, key -> new ListenerStats(listener, eventClass));
+        }
+        listenerStats.record(nanos);
+    }
+
+    /**
+     * Gets a snapshot of all recorded stats, slowest in total first.
+     *
+     * @return The recorded stats
+     */
+    public static List<ListenerStats> getStats() {
+        List<ListenerStats> result = new ArrayList<>();
+        for (Map<Class<?>, ListenerStats> byEvent : stats.values()) {
+            result.addAll(byEvent.values());
+        }
+        result.sort(Comparator.comparingLong(ListenerStats::getTotalNanos).reversed());
+        return result;
+    }
+
+    public static void writeReport(File file) throws IOException {
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+
+        try (JsonWriter writer = new JsonWriter(new FileWriter(file))) {
+            writer.setIndent("  ");
+            writer.beginArray();
+            for (ListenerStats listenerStats : getStats()) {
+                writer.beginObject();
+                writer.name("plugin").value(listenerStats.getPluginId());
+                writer.name("listener").value(listenerStats.getListenerName());
+                writer.name("event").value(listenerStats.getEventClass().getName());
+                writer.name("order").value(listenerStats.getOrder());
+                writer.name("calls").value(listenerStats.getCount());
+                writer.name("totalNanos").value(listenerStats.getTotalNanos());
+                writer.name("meanNanos").value(listenerStats.getMeanNanos());
+                writer.name("maxNanos").value(listenerStats.getMaxNanos());
+                writer.name("p50Nanos").value(listenerStats.getPercentileNanos(0.5));
+                writer.name("p99Nanos").value(listenerStats.getPercentileNanos(0.99));
+                writer.name("histogram").beginArray();
+                for (int i = 0; i < BUCKETS; i++) {
+                    writer.value(listenerStats.getBucket(i));
+                }
+                writer.endArray();
+                writer.endObject();
+            }
+            writer.endArray();
+        }
+    }
+
+    public static final class ListenerStats {
+
+        private final String pluginId;
+        private final String listenerName;
+        private final String order;
+        private final Class<?> eventClass;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        ListenerStats(RegisteredListener<?> listener, Class<?> eventClass) {
+            this.pluginId = listener.getPlugin().getId();
+            this.listenerName = listener.getName();
+            this.order = listener.getOrder().name();
+            this.eventClass = eventClass;
+        }
+
+        void record(long nanos) {
+            this.count.increment();
+            this.totalNanos.add(nanos);
+            this.histogram.incrementAndGet(Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(Math.max(1L, nanos))));
+            long max = this.maxNanos.get();
+            while (nanos > max && !this.maxNanos.compareAndSet(max, nanos)) {
+                max = this.maxNanos.get();
+            }
+        }
+
+        public String getPluginId() {
+            return this.pluginId;
+        }
+
+        public String getListenerName() {
+            return this.listenerName;
+        }
+
+        public String getOrder() {
+            return this.order;
+        }
+
+        public Class<?> getEventClass() {
+            return this.eventClass;
+        }
+
+        public long getCount() {
+            return this.count.sum();
+        }
+
+        public long getTotalNanos() {
+            return this.totalNanos.sum();
+        }
+
+        public long getMeanNanos() {
+            final long count = getCount();
+            return count == 0 ? 0 : getTotalNanos() / count;
+        }
+
+        public long getMaxNanos() {
+            return this.maxNanos.get();
+        }
+
+        public long getBucket(int bucket) {
+            return this.histogram.get(bucket);
+        }
+
+        /**
+         * Estimates a percentile of the call durations, as the upper bound of
+         * the histogram bucket containing it.
+         *
+         * @param percentile The percentile, between 0 and 1
+         * @return The estimated duration in nanoseconds
+         */
+        public long getPercentileNanos(double percentile) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                total += this.histogram.get(i);
+            }
+            final long target = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += this.histogram.get(i);
+                if (seen >= target && seen > 0) {
+                    return Math.min(1L << (i + 1), getMaxNanos());
+                }
+            }
+            return 0;
+        }
+    }
+
+}
@@ -28,7 +28,7 @@
 
 import co.aikar.timings.SpongeTimings;
 import co.aikar.timings.Timing;
-import com.google.common.collect.Lists;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
@@ -46,16 +46,23 @@
     private final Order order;
 
     private final EventListener<? super T> listener;
+    private final String name;
 
     private final boolean beforeModifications;
     private Timing listenerTimer;
 
     RegisteredListener(PluginContainer plugin, Class<T> eventClass, Order order, EventListener<? super T> listener, boolean beforeModifications) {
+        this(plugin, eventClass, order, listener, beforeModifications, listener.getClass().getName());
+    }
+
+    RegisteredListener(PluginContainer plugin, Class<T> eventClass, Order order, EventListener<? super T> listener, boolean beforeModifications,
+            String name) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventClass = checkNotNull(eventClass, "eventClass");
         this.order = checkNotNull(order, "order");
         this.listener = checkNotNull(listener, "listener");
         this.beforeModifications = beforeModifications;
+        this.name = checkNotNull(name, "name");
     }
 
     public PluginContainer getPlugin() {
@@ -70,6 +77,16 @@ public Order getOrder() {
         return this.order;
     }
 
+    /**
+     * Gets a human readable name of this listener, for annotated listeners
+     * this is the declaring class and method name.
+     *
+     * @return The name of this listener
+     */
+    public String getName() {
+        return this.name;
+    }
+
     public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
@@ -100,6 +117,10 @@ public int compareTo(RegisteredListener<?> handler) {
         return this.order.compareTo(handler.order);
     }
 
+    /**
+     * An immutable snapshot of the listeners for an event type, safe to
+     * iterate from any thread without locking.
+     */
     public static final class Cache {
 
         private final List<RegisteredListener<?>> listeners;
@@ -108,14 +129,18 @@ public static final class Cache {
         private static final Order[] ORDERS = Order.values();
 
         Cache(List<RegisteredListener<?>> listeners) {
-            this.listeners = listeners;
+            this.listeners = ImmutableList.copyOf(listeners);
 
-            this.listenersByOrder = Maps.newEnumMap(Order.class);
+            EnumMap<Order, ImmutableList.Builder<RegisteredListener<?>>> builders = Maps.newEnumMap(Order.class);
             for (Order order : ORDERS) {
-                this.listenersByOrder.put(order, Lists.<RegisteredListener<?>>newArrayList());
+                builders.put(order, ImmutableList.builder());
             }
             for (RegisteredListener<?> handler : listeners) {
-                this.listenersByOrder.get(handler.getOrder()).add(handler);
+                builders.get(handler.getOrder()).add(handler);
+            }
+            this.listenersByOrder = Maps.newEnumMap(Order.class);
+            for (Order order : ORDERS) {
+                this.listenersByOrder.put(order, builders.get(order).build());
             }
         }
 
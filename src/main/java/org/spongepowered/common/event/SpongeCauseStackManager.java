@@ -38,6 +38,7 @@
 import org.spongepowered.api.event.cause.EventContextKey;
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.WorldTickThread;
 
 import java.util.Deque;
 import java.util.HashMap;
@@ -46,6 +47,8 @@
 import java.util.Optional;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 @Singleton
 public class SpongeCauseStackManager implements CauseStackManager {
 
@@ -59,10 +62,46 @@ public class SpongeCauseStackManager implements CauseStackManager {
     private Cause cached_cause;
     private EventContext cached_ctx;
 
+    // Whether this stack belongs to a world ticked in parallel, instead of the main thread
+    private final boolean worldStack;
+
     @Inject
-    private SpongeCauseStackManager() { }
+    private SpongeCauseStackManager() {
+        this.worldStack = false;
+    }
+
+    private SpongeCauseStackManager(boolean worldStack) {
+        this.worldStack = worldStack;
+    }
+
+    /**
+     * Creates a new cause stack owned by a world while it is ticked in
+     * parallel with other worlds. Calls made to the game's cause stack
+     * manager by the thread ticking that world are handed to it.
+     *
+     * @return The new cause stack
+     */
+    public static SpongeCauseStackManager createWorldStack() {
+        return new SpongeCauseStackManager(true);
+    }
+
+    @Nullable
+    private SpongeCauseStackManager getWorldStack() {
+        if (this.worldStack) {
+            return null;
+        }
+        final Thread thread = Thread.currentThread();
+        return thread instanceof WorldTickThread ? ((WorldTickThread) thread).getCauseStackManager() : null;
+    }
 
     private void enforceMainThread() {
+        if (this.worldStack) {
+            final Thread thread = Thread.currentThread();
+            if (!(thread instanceof WorldTickThread) || ((WorldTickThread) thread).getCauseStackManager() != this) {
+                throw new IllegalStateException("CauseStackManager of a world called from outside of its tick!");
+            }
+            return;
+        }
         // On clients, this may not be available immediately, we can't bomb out that early.
         if (Sponge.isServerAvailable() && !Sponge.getServer().isMainThread()) {
             throw new IllegalStateException("CauseStackManager called from off main thread!");
@@ -71,6 +110,10 @@ private void enforceMainThread() {
 
     @Override
     public Cause getCurrentCause() {
+        final SpongeCauseStackManager world = getWorldStack();
+        if (world != null) {
+            return world.getCurrentCause();
+        }
         enforceMainThread();
         if (this.cached_cause == null || this.cached_ctx == null) {
             if (this.cause.isEmpty()) {
@@ -84,6 +127,10 @@ public Cause getCurrentCause() {
 
     @Override
     public EventContext getCurrentContext() {
+        final SpongeCauseStackManager world = getWorldStack();
+        if (world != null) {
+            return world.getCurrentContext();
+        }
         enforceMainThread();
         if (this.cached_ctx == null) {
             this.cached_ctx = EventContext.of(this.ctx);
@@ -93,6 +140,10 @@ public EventContext getCurrentContext() {
 
     @Override
     public CauseStackManager pushCause(Object obj) {
+        final SpongeCauseStackManager world = getWorldStack();
+        if (world != null) {
+            return world.pushCause(obj);
+        }
         enforceMainThread();
         checkNotNull(obj, "obj");
         this.cached_cause = null;
@@ -102,6 +153,10 @@ public CauseStackManager pushCause(Object obj) {
 
     @Override
     public Object popCause() {
+        final SpongeCauseStackManager world = getWorldStack();
+        if (world != null) {
+            return world.popCause();
+        }
         enforceMainThread();
         if (this.cause.size() <= this.min_depth) {
             throw new IllegalStateException("Cause stack corruption, tried to pop more objects off than were pushed since last frame (Size was "
@@ -113,6 +168,11 @@ public Object popCause() {
 
     @Override
     public void popCauses(int n) {
+        final SpongeCauseStackManager world = getWorldStack();
+        if (world != null) {
+            world.popCauses(n);
+            return;
+        }
         enforceMainThread();
         for (int i = 0; i < n; i++) {
             popCause();
@@ -121,12 +181,20 @@ public void popCauses(int n) {
 
     @Override
     public Object peekCause() {
+        final SpongeCauseStackManager world = getWorldStack();
+        if (world != null) {
+            return world.peekCause();
+        }
         enforceMainThread();
         return this.cause.peek();
     }
 
     @Override
     public StackFrame pushCauseFrame() {
+        final SpongeCauseStackManager world = getWorldStack();
+        if (world != null) {
+            return world.pushCauseFrame();
+        }
         enforceMainThread();
         CauseStackFrameImpl frame = new CauseStackFrameImpl(this.min_depth);
         this.frames.push(frame);
@@ -142,6 +210,11 @@ public StackFrame pushCauseFrame() {
 
     @Override
     public void popCauseFrame(StackFrame oldFrame) {
+        final SpongeCauseStackManager world = getWorldStack();
+        if (world != null) {
+            world.popCauseFrame(oldFrame);
+            return;
+        }
         enforceMainThread();
         checkNotNull(oldFrame, "oldFrame");
         CauseStackFrameImpl frame = this.frames.peek();
@@ -231,6 +304,10 @@ public void popCauseFrame(StackFrame oldFrame) {
 
     @Override
     public <T> CauseStackManager addContext(EventContextKey<T> key, T value) {
+        final SpongeCauseStackManager world = getWorldStack();
+        if (world != null) {
+            return world.addContext(key, value);
+        }
         enforceMainThread();
         checkNotNull(key, "key");
         checkNotNull(value, "value");
@@ -250,6 +327,10 @@ public <T> CauseStackManager addContext(EventContextKey<T> key, T value) {
     @Override
     @SuppressWarnings("unchecked")
     public <T> Optional<T> getContext(EventContextKey<T> key) {
+        final SpongeCauseStackManager world = getWorldStack();
+        if (world != null) {
+            return world.getContext(key);
+        }
         enforceMainThread();
         checkNotNull(key, "key");
         return Optional.ofNullable((T) this.ctx.get(key));
@@ -258,6 +339,10 @@ public <T> Optional<T> getContext(EventContextKey<T> key) {
     @Override
     @SuppressWarnings("unchecked")
     public <T> Optional<T> removeContext(EventContextKey<T> key) {
+        final SpongeCauseStackManager world = getWorldStack();
+        if (world != null) {
+            return world.removeContext(key);
+        }
         enforceMainThread();
         checkNotNull(key, "key");
         this.cached_ctx = null;
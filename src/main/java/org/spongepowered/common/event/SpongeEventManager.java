@@ -30,10 +30,7 @@
 import co.aikar.timings.TimingsManager;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Sets;
 import com.google.common.reflect.TypeToken;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -50,19 +47,25 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.event.filter.FilterFactory;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
+import org.spongepowered.common.world.ParallelWorldTicker;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
@@ -78,19 +81,34 @@ public class SpongeEventManager implements EventManager {
     private final DefineableClassLoader classLoader = new DefineableClassLoader(getClass().getClassLoader());
     private final AnnotatedEventListener.Factory handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
             new FilterFactory("org.spongepowered.common.event.filters", this.classLoader), this.classLoader);
-    private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent = HashMultimap.create();
-    private final Set<Object> registeredListeners = Sets.newHashSet();
+    private static final RegisteredListener<?>[] NO_LISTENERS = new RegisteredListener<?>[0];
+
+    /**
+     * The listeners registered directly for each event type.
+     * <p>The arrays are never mutated once published, writers replace them
+     * while holding {@link #lock} so that baking a handler cache can read
+     * them without any locking.</p>
+     */
+    private final ConcurrentMap<Class<?>, RegisteredListener<?>[]> handlersByEvent = new ConcurrentHashMap<>();
+    private final Set<Object> registeredListeners = ConcurrentHashMap.newKeySet();
 
     public final ListenerChecker checker = new ListenerChecker(ShouldFire.class);
 
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
+     * <p>Only the entries for event types which are a subtype of a changed
+     * listener's event type are invalidated when handlers are added or
      * removed.</p>
      */
     private final LoadingCache<Class<? extends Event>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build((eventClass) -> bakeHandlers(eventClass));
 
+    /**
+     * Incremented every time the handlers are invalidated, used to detect
+     * bakes which raced with a change to the registered listeners.
+     */
+    private final AtomicLong handlersGeneration = new AtomicLong();
+
     @Inject
     public SpongeEventManager(Logger logger, PluginManager pluginManager) {
         this.logger = logger;
@@ -124,10 +142,11 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(Class<T> rootEvent) {
         List<RegisteredListener<?>> handlers = Lists.newArrayList();
         Set<Class<? super T>> types = TypeToken.of(rootEvent).getTypes().rawTypes();
 
-        synchronized (this.lock) {
-            for (Class<? super T> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    handlers.addAll(this.handlersByEvent.get(type));
+        for (Class<? super T> type : types) {
+            if (Event.class.isAssignableFrom(type)) {
+                RegisteredListener<?>[] registered = this.handlersByEvent.get(type);
+                if (registered != null) {
+                    Collections.addAll(handlers, registered);
                 }
             }
         }
@@ -171,20 +190,80 @@ private void register(RegisteredListener<? extends Event> handler) {
     }
 
     private void register(List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
+        Set<Class<?>> changed = new HashSet<>();
 
         synchronized (this.lock) {
             for (RegisteredListener<?> handler : handlers) {
-                if (this.handlersByEvent.put(handler.getEventClass(), handler)) {
-                    changed = true;
+                RegisteredListener<?>[] registered = this.handlersByEvent.getOrDefault(handler.getEventClass(), NO_LISTENERS);
+                if (!containsListener(registered, handler)) {
+                    RegisteredListener<?>[] copy = Arrays.copyOf(registered, registered.length + 1);
+                    copy[registered.length] = handler;
+                    this.handlersByEvent.put(handler.getEventClass(), copy);
+                    changed.add(handler.getEventClass());
                     this.checker.registerListenerFor(handler.getEventClass());
                 }
             }
         }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+        invalidateHandlers(changed);
+    }
+
+    private static boolean containsListener(RegisteredListener<?>[] registered, RegisteredListener<?> handler) {
+        for (RegisteredListener<?> listener : registered) {
+            if (listener == handler) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Invalidates the baked handlers of every cached event type which would
+     * receive events for one of the given listener types.
+     *
+     * <p>Must be called after the changes are published to
+     * {@link #handlersByEvent}. Entries which are still being baked are not
+     * visible here, those are discarded by {@link #getHandlers(Class)} once
+     * it notices the generation changed while it was loading.</p>
+     *
+     * @param changed The event types whose listeners changed
+     */
+    private void invalidateHandlers(Collection<Class<?>> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        this.handlersGeneration.incrementAndGet();
+        List<Class<? extends Event>> stale = new ArrayList<>();
+        for (Class<? extends Event> eventClass : this.handlersCache.asMap().keySet()) {
+            for (Class<?> type : changed) {
+                if (type.isAssignableFrom(eventClass)) {
+                    stale.add(eventClass);
+                    break;
+                }
+            }
+        }
+        this.handlersCache.invalidateAll(stale);
+    }
+
+    /**
+     * Gets the baked handlers for the given event type.
+     *
+     * <p>A bake which started before an invalidation may have read the old
+     * listener arrays and only stored its result after the stale keys were
+     * collected. If the generation changed while loading, the entry is
+     * removed again so the next lookup bakes it with the current
+     * listeners.</p>
+     *
+     * @param eventClass The event type
+     * @return The baked handlers
+     */
+    private RegisteredListener.Cache getHandlers(Class<? extends Event> eventClass) {
+        final long generation = this.handlersGeneration.get();
+        final RegisteredListener.Cache cache = this.handlersCache.get(eventClass);
+        if (this.handlersGeneration.get() != generation) {
+            this.handlersCache.asMap().remove(eventClass, cache);
         }
+        return cache;
     }
 
     /*private void enableFields(Collection<RegisteredListener<? extends Event>> handlers) {
@@ -204,7 +283,7 @@ private void disableFields(Collection<RegisteredListener<? extends Event>> handl
 
     // Override in SpongeModEventManager
     protected boolean hasAnyListeners(Class<? extends Event> clazz) {
-        return !this.handlersCache.get(clazz).getListeners().isEmpty();
+        return !getHandlers(clazz).getListeners().isEmpty();
     }
 
     public void registerListener(PluginContainer plugin, Object listenerObject) {
@@ -237,7 +316,7 @@ public void registerListener(PluginContainer plugin, Object listenerObject) {
                         continue;
                     }
 
-                    handlers.add(createRegistration(plugin, eventClass, listener, handler));
+                    handlers.add(createRegistration(plugin, eventClass, listener, handler, handle.getName() + '#' + method.getName()));
                 } else {
                     methodErrors.put(method, error);
                 }
@@ -267,8 +346,8 @@ public void registerListener(PluginContainer plugin, Object listenerObject) {
     }
 
     private static <T extends Event> RegisteredListener<T> createRegistration(PluginContainer plugin, Class<T> eventClass, Listener listener,
-            EventListener<? super T> handler) {
-        return createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), handler);
+            EventListener<? super T> handler, String name) {
+        return new RegisteredListener<>(plugin, eventClass, listener.order(), handler, listener.beforeModifications(), name);
     }
 
     private static <T extends Event> RegisteredListener<T> createRegistration(PluginContainer plugin, Class<T> eventClass, Order order,
@@ -304,24 +383,33 @@ public <T extends Event> void registerListener(Object plugin, Class<T> eventClas
     }
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
+        Set<Class<?>> changed = new HashSet<>();
 
         synchronized (this.lock) {
-            Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
+            Iterator<Map.Entry<Class<?>, RegisteredListener<?>[]>> itr = this.handlersByEvent.entrySet().iterator();
             while (itr.hasNext()) {
-                RegisteredListener<?> handler = itr.next();
-                if (unregister.test(handler)) {
-                    itr.remove();
-                    changed = true;
-                    this.checker.unregisterListenerFor(handler.getEventClass());
-                    this.registeredListeners.remove(handler.getHandle());
+                Map.Entry<Class<?>, RegisteredListener<?>[]> entry = itr.next();
+                List<RegisteredListener<?>> retained = new ArrayList<>(entry.getValue().length);
+                for (RegisteredListener<?> handler : entry.getValue()) {
+                    if (unregister.test(handler)) {
+                        this.checker.unregisterListenerFor(handler.getEventClass());
+                        this.registeredListeners.remove(handler.getHandle());
+                    } else {
+                        retained.add(handler);
+                    }
+                }
+                if (retained.size() != entry.getValue().length) {
+                    changed.add(entry.getKey());
+                    if (retained.isEmpty()) {
+                        itr.remove();
+                    } else {
+                        entry.setValue(retained.toArray(NO_LISTENERS));
+                    }
                 }
             }
         }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
-        }
+        invalidateHandlers(changed);
     }
 
     @Override
@@ -337,37 +425,51 @@ public void unregisterPluginListeners(Object pluginObj) {
     }
 
     protected RegisteredListener.Cache getHandlerCache(Event event) {
-        return this.handlersCache.get(checkNotNull(event, "event").getClass());
+        return getHandlers(checkNotNull(event, "event").getClass());
     }
 
     @SuppressWarnings("unchecked")
     protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
-        if(!Sponge.getServer().isMainThread()) {
+        if(!ParallelWorldTicker.isMainOrTickingWorld()) {
             // If this event is being posted asynchronously then we don't want
             // to do any timing or cause stack changes
+            final boolean profile = EventListenerProfiler.isEnabled();
             for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+                final long start = profile ? System.nanoTime() : 0L;
                 try {
                     ((AbstractEvent) event).currentOrder = handler.getOrder();
                     handler.handle(event);
                 } catch (Throwable e) {
                     SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+                } finally {
+                    if (profile) {
+                        EventListenerProfiler.record(handler, event.getClass(), System.nanoTime() - start);
+                    }
                 }
             }
             ((AbstractEvent) event).currentOrder = null;
             return event instanceof Cancellable && ((Cancellable) event).isCancelled();
         }
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
+        final boolean profile = EventListenerProfiler.isEnabled();
         for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
             Sponge.getCauseStackManager().pushCause(handler.getPlugin());
+            long start = 0L;
             try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
                 handler.getTimingsHandler().startTimingIfSync();
                 if (event instanceof AbstractEvent) {
                     ((AbstractEvent) event).currentOrder = handler.getOrder();
                 }
+                if (profile) {
+                    start = System.nanoTime();
+                }
                 handler.handle(event);
             } catch (Throwable e) {
                 this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
             } finally {
+                if (profile) {
+                    EventListenerProfiler.record(handler, event.getClass(), System.nanoTime() - start);
+                }
                 handler.getTimingsHandler().stopTimingIfSync();
             }
             Sponge.getCauseStackManager().popCause();
@@ -48,6 +48,16 @@ public final List<T> get() {
         return this.captured;
     }
 
+    /**
+     * Prepares this supplier for reuse. A list which captured anything is
+     * dropped rather than cleared, as events may still reference it.
+     */
+    final void reset() {
+        if (this.captured != null && !this.captured.isEmpty()) {
+            this.captured = null;
+        }
+    }
+
     public final boolean isEmpty() {
         return this.captured == null || this.captured.isEmpty();
     }
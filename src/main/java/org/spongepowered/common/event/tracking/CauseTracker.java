@@ -64,6 +64,7 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.WorldTickThread;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -116,12 +117,35 @@ private CauseTracker() {
         checkState(INSTANCE == null, "More than one CauseTracker instance is being created!!! Two cannot exist at once!");
     }
 
+    private CauseTracker(WorldServer world) {
+        // The trackers of worlds ticked in parallel are only ever bound to the thread currently ticking their world.
+        checkNotNull(world, "World cannot be null!");
+    }
+
     private static final CauseTracker INSTANCE = new CauseTracker();
 
     public static CauseTracker getInstance() {
+        final Thread thread = Thread.currentThread();
+        if (thread instanceof WorldTickThread) {
+            final CauseTracker tracker = ((WorldTickThread) thread).getCauseTracker();
+            if (tracker != null) {
+                return tracker;
+            }
+        }
         return checkNotNull(INSTANCE, "CauseTracker instance was illegally set to null!");
     }
 
+    /**
+     * Creates a new tracker owning the phase state of the given world while
+     * it is ticked in parallel with other worlds.
+     *
+     * @param world The world
+     * @return The new tracker
+     */
+    public static CauseTracker createWorldTracker(WorldServer world) {
+        return new CauseTracker(world);
+    }
+
     // ----------------- STATE ACCESS ----------------------------------
 
     public void switchToPhase(IPhaseState state, PhaseContext phaseContext) {
@@ -237,6 +261,8 @@ public void completePhase(IPhaseState prevState) {
         } catch (Exception | NoClassDefFoundError e) {
             printMessageWithCaughtException("Exception Post Dispatching Phase", "Something happened when trying to post dispatch state", state, context, e);
         }
+        // The context is fully unwound, pooled contexts can be handed out again
+        context.release();
     }
 
     private void printRunnawayPhaseCompletion(IPhaseState state) {
@@ -46,6 +46,8 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -62,6 +64,9 @@
  */
 public class PhaseContext {
 
+    private static final int MAX_POOLED_CONTEXTS = 32;
+    private static final ThreadLocal<ArrayDeque<PhaseContext>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
     private boolean isCompleted = false;
 
     @Nullable private CapturedBlocksSupplier blocksSupplier;
@@ -77,28 +82,88 @@ public class PhaseContext {
     @Nullable private CapturePlayer capturePlayer;
     @Nullable protected User owner;
     @Nullable protected User notifier;
-    protected final Map<String, Object> extraContext = Maps.newHashMap();
+    @Nullable protected Map<String, Object> extraContext;
     protected boolean processImmediately;
 
     private Object source;
     private PluginContainer activeContainer;
 
+    // Only set for pooled contexts, the suppliers are handed out again after a release
+    @Nullable private ReusableCaptures reusableCaptures;
+    private boolean isPooled;
+
     public static PhaseContext start() {
         return new PhaseContext();
     }
 
+    /**
+     * Starts a context which is returned to a per thread pool once its phase
+     * has been completed by the {@link CauseTracker}, and reuses its capture
+     * suppliers. Must only be used for phases whose context is not retained
+     * after the phase is completed.
+     *
+     * @return A new or recycled phase context
+     */
+    public static PhaseContext pooled() {
+        final PhaseContext context = POOL.get().pollFirst();
+        if (context != null) {
+            context.isPooled = false;
+            return context;
+        }
+        final PhaseContext created = new PhaseContext();
+        created.reusableCaptures = new ReusableCaptures();
+        return created;
+    }
+
+    /**
+     * Resets this context and returns it to the pool, if it was obtained
+     * through {@link #pooled()}.
+     */
+    void release() {
+        if (this.reusableCaptures == null || this.isPooled) {
+            return;
+        }
+        this.reusableCaptures.reset();
+        this.isCompleted = false;
+        this.blocksSupplier = null;
+        this.blockItemDropsSupplier = null;
+        this.blockItemEntityDropsSupplier = null;
+        this.capturedItemsSupplier = null;
+        this.capturedEntitiesSupplier = null;
+        this.capturedItemStackSupplier = null;
+        this.entityItemDropsSupplier = null;
+        this.entityItemEntityDropsSupplier = null;
+        this.blockEntitySpawnSupplier = null;
+        this.captureBlockPos = null;
+        this.capturePlayer = null;
+        this.owner = null;
+        this.notifier = null;
+        this.extraContext = null;
+        this.processImmediately = false;
+        this.source = null;
+        this.activeContainer = null;
+        final ArrayDeque<PhaseContext> pool = POOL.get();
+        if (pool.size() < MAX_POOLED_CONTEXTS) {
+            this.isPooled = true;
+            pool.offerFirst(this);
+        }
+    }
+
     public PhaseContext addExtra(String key, Object val) {
+        if (this.extraContext == null) {
+            this.extraContext = Maps.newHashMap();
+        }
         this.extraContext.put(key, val);
         return this;
     }
 
     public Object getExtra(String key) {
-        return this.extraContext.get(key);
+        return this.extraContext == null ? null : this.extraContext.get(key);
     }
 
     @SuppressWarnings("unchecked")
     public <T> T getExtra(String key, Class<T> type) {
-        Object o = this.extraContext.get(key);
+        Object o = getExtra(key);
         if (type.isInstance(o)) {
             return (T) o;
         }
@@ -107,7 +172,7 @@ public <T> T getExtra(String key, Class<T> type) {
 
     @SuppressWarnings("unchecked")
     public <T> T getRequiredExtra(String key, Class<T> type) {
-        Object o = this.extraContext.get(key);
+        Object o = getExtra(key);
         if (type.isInstance(o)) {
             return (T) o;
         }
@@ -116,7 +181,7 @@ public <T> T getRequiredExtra(String key, Class<T> type) {
     }
 
     public Map<String, Object> getExtraContext() {
-        return this.extraContext;
+        return this.extraContext == null ? Collections.emptyMap() : this.extraContext;
     }
 
     public PhaseContext source(Object owner) {
@@ -155,6 +220,15 @@ public PhaseContext addBlockCaptures() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.checkBlockSuppliers();
 
+        if (this.reusableCaptures != null) {
+            this.blocksSupplier = this.reusableCaptures.blocks;
+            this.blockItemEntityDropsSupplier = this.reusableCaptures.blockItemEntityDrops;
+            this.blockItemDropsSupplier = this.reusableCaptures.blockItemDrops;
+            this.blockEntitySpawnSupplier = this.reusableCaptures.blockEntitySpawns;
+            this.captureBlockPos = this.reusableCaptures.blockPos;
+            return this;
+        }
+
         CapturedBlocksSupplier blocksSupplier = new CapturedBlocksSupplier();
         this.blocksSupplier = blocksSupplier;
         BlockItemEntityDropsSupplier blockItemEntityDropsSupplier = new BlockItemEntityDropsSupplier();
@@ -176,6 +250,17 @@ public PhaseContext addCaptures() {
         checkState(this.capturedEntitiesSupplier == null, "CapturedEntitiesSupplier is already set!");
         checkState(this.capturedItemStackSupplier == null, "CapturedItemStackSupplier is already set!");
 
+        if (this.reusableCaptures != null) {
+            this.blocksSupplier = this.reusableCaptures.blocks;
+            this.blockItemEntityDropsSupplier = this.reusableCaptures.blockItemEntityDrops;
+            this.blockItemDropsSupplier = this.reusableCaptures.blockItemDrops;
+            this.capturedItemsSupplier = this.reusableCaptures.items;
+            this.capturedEntitiesSupplier = this.reusableCaptures.entities;
+            this.capturedItemStackSupplier = this.reusableCaptures.itemStacks;
+            this.blockEntitySpawnSupplier = this.reusableCaptures.blockEntitySpawns;
+            return this;
+        }
+
         CapturedBlocksSupplier blocksSupplier = new CapturedBlocksSupplier();
         this.blocksSupplier = blocksSupplier;
         BlockItemEntityDropsSupplier blockItemEntityDropsSupplier = new BlockItemEntityDropsSupplier();
@@ -200,6 +285,13 @@ public PhaseContext addEntityCaptures() {
         checkState(this.capturedEntitiesSupplier == null, "CapturedEntitiesSupplier is already set!");
         checkState(this.capturedItemStackSupplier == null, "CapturedItemStackSupplier is already set!");
 
+        if (this.reusableCaptures != null) {
+            this.capturedItemsSupplier = this.reusableCaptures.items;
+            this.capturedEntitiesSupplier = this.reusableCaptures.entities;
+            this.capturedItemStackSupplier = this.reusableCaptures.itemStacks;
+            return this;
+        }
+
         CapturedItemsSupplier capturedItemsSupplier = new CapturedItemsSupplier();
         this.capturedItemsSupplier = capturedItemsSupplier;
         CapturedEntitiesSupplier capturedEntitiesSupplier = new CapturedEntitiesSupplier();
@@ -419,6 +511,33 @@ public PluginContainer getActiveContainer() {
         return this.activeContainer;
     }
 
+    /**
+     * The capture suppliers of a pooled context, kept across releases.
+     */
+    private static final class ReusableCaptures {
+
+        final CapturedBlocksSupplier blocks = new CapturedBlocksSupplier();
+        final BlockItemEntityDropsSupplier blockItemEntityDrops = new BlockItemEntityDropsSupplier();
+        final BlockItemDropsSupplier blockItemDrops = new BlockItemDropsSupplier();
+        final CapturedBlockEntitySpawnSupplier blockEntitySpawns = new CapturedBlockEntitySpawnSupplier();
+        final CaptureBlockPos blockPos = new CaptureBlockPos();
+        final CapturedItemsSupplier items = new CapturedItemsSupplier();
+        final CapturedEntitiesSupplier entities = new CapturedEntitiesSupplier();
+        final CapturedItemStackSupplier itemStacks = new CapturedItemStackSupplier();
+
+        void reset() {
+            this.blocks.reset();
+            this.blockItemEntityDrops.reset();
+            this.blockItemDrops.reset();
+            this.blockEntitySpawns.reset();
+            this.blockPos.setPos(null);
+            this.blockPos.setWorld((IMixinWorldServer) null);
+            this.items.reset();
+            this.entities.reset();
+            this.itemStacks.reset();
+        }
+    }
+
     static class BlockItemDropsSupplier extends CapturedMultiMapSupplier<BlockPos, ItemDropData> {
 
         BlockItemDropsSupplier() {
@@ -111,15 +111,17 @@ public final class TrackingUtil {
     public static final int DECAY_BLOCK_INDEX = 2;
     public static final int CHANGE_BLOCK_INDEX = 3;
     public static final int MULTI_CHANGE_INDEX = 4;
-    public static final Function<ImmutableList.Builder<Transaction<BlockSnapshot>>[], Consumer<Transaction<BlockSnapshot>>> TRANSACTION_PROCESSOR =
-            builders ->
-                    transaction -> {
-                        final BlockChange blockChange = ((SpongeBlockSnapshot) transaction.getOriginal()).blockChange;
-                        builders[blockChange.ordinal()].add(transaction);
-                        builders[MULTI_CHANGE_INDEX].add(transaction);
-                    }
-            ;
     public static final int EVENT_COUNT = 5;
+    // Transaction lists larger than this are not kept around for reuse
+    private static final int MAX_RETAINED_TRANSACTIONS = 4096;
+    @SuppressWarnings("unchecked")
+    private static final ThreadLocal<List<Transaction<BlockSnapshot>>[]> TRANSACTION_BUFFERS = ThreadLocal.withInitial(() -> {
+        final List<Transaction<BlockSnapshot>>[] buffers = new List[EVENT_COUNT];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            buffers[i] = new ArrayList<>();
+        }
+        return buffers;
+    });
     public static final Function<BlockSnapshot, Transaction<BlockSnapshot>> TRANSACTION_CREATION = (blockSnapshot) -> {
         final Location<World> originalLocation = blockSnapshot.getLocation().get();
         final WorldServer worldServer = (WorldServer) originalLocation.getExtent();
@@ -140,7 +142,7 @@ public static void tickEntity(net.minecraft.entity.Entity entityIn) {
         }
         try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             Sponge.getCauseStackManager().pushCause(entityIn);
-            final PhaseContext phaseContext = PhaseContext.start()
+            final PhaseContext phaseContext = PhaseContext.pooled()
                     .source(entityIn)
                     .addEntityCaptures()
                     .addBlockCaptures();
@@ -172,7 +174,7 @@ public static void tickRidingEntity(net.minecraft.entity.Entity entity) {
             return;
         }
         Sponge.getCauseStackManager().pushCause(entity);
-        final PhaseContext phaseContext = PhaseContext.start()
+        final PhaseContext phaseContext = PhaseContext.pooled()
                 .source(entity)
                 .addEntityCaptures()
                 .addBlockCaptures();
@@ -202,7 +204,7 @@ public static void tickTileEntity(IMixinWorldServer mixinWorldServer, ITickable
             return;
         }
         Sponge.getCauseStackManager().pushCause(tile);
-        final PhaseContext phaseContext = PhaseContext.start()
+        final PhaseContext phaseContext = PhaseContext.pooled()
                 .source(tile)
                 .addEntityCaptures()
                 .addBlockCaptures();
@@ -254,7 +256,7 @@ public static void updateTickBlock(IMixinWorldServer mixinWorld, Block block, Bl
                     .state((BlockState) state)
                     .build();
             Sponge.getCauseStackManager().pushCause(locatable);
-            final PhaseContext phaseContext = PhaseContext.start()
+            final PhaseContext phaseContext = PhaseContext.pooled()
                     .source(locatable)
                     .addBlockCaptures()
                     .addEntityCaptures();
@@ -294,7 +296,7 @@ public static void randomTickBlock(CauseTracker causeTracker, IMixinWorldServer
                     .state((BlockState) state)
                     .build();
             Sponge.getCauseStackManager().pushCause(locatable);
-            final PhaseContext phaseContext = PhaseContext.start()
+            final PhaseContext phaseContext = PhaseContext.pooled()
                     .source(locatable)
                     .addEntityCaptures()
                     .addBlockCaptures();
@@ -473,13 +475,7 @@ public static User getNotifierOrOwnerFromBlock(Location<World> location) {
 
     public static User getNotifierOrOwnerFromBlock(WorldServer world, BlockPos blockPos) {
         final IMixinChunk mixinChunk = (IMixinChunk) world.getChunkFromBlockCoords(blockPos);
-        User notifier = mixinChunk.getBlockNotifier(blockPos).orElse(null);
-        if (notifier != null) {
-            return notifier;
-        }
-
-        User owner = mixinChunk.getBlockOwner(blockPos).orElse(null);
-        return owner;
+        return mixinChunk.getBlockNotifierOrOwner(blockPos);
     }
 
     public static Supplier<IllegalStateException> throwWithContext(String s, PhaseContext phaseContext) {
@@ -509,29 +505,10 @@ public static Supplier<IllegalStateException> throwWithContext(String s, PhaseCo
      * @param context The phase context, only used by the phase for handling processes.
      * @return True if no events or transactions were cancelled
      */
-    @SuppressWarnings({"unchecked"})
     public static boolean processBlockCaptures(List<BlockSnapshot> snapshots, IPhaseState state, PhaseContext context) {
         if (snapshots.isEmpty()) {
             return false;
         }
-        ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = new ImmutableList[EVENT_COUNT];
-        ImmutableList.Builder<Transaction<BlockSnapshot>>[] transactionBuilders = new ImmutableList.Builder[EVENT_COUNT];
-        for (int i = 0; i < EVENT_COUNT; i++) {
-            transactionBuilders[i] = new ImmutableList.Builder<>();
-        }
-        final List<ChangeBlockEvent> blockEvents = new ArrayList<>();
-
-        for (BlockSnapshot snapshot : snapshots) {
-            // This processes each snapshot to assign them to the correct event in the next area, with the
-            // correct builder array entry.
-            TRANSACTION_PROCESSOR.apply(transactionBuilders).accept(TRANSACTION_CREATION.apply(snapshot));
-        }
-
-        for (int i = 0; i < EVENT_COUNT; i++) {
-            // Build each event array
-            transactionArrays[i] = transactionBuilders[i].build();
-        }
-        final ChangeBlockEvent[] mainEvents = new ChangeBlockEvent[BlockChange.values().length];
         // This likely needs to delegate to the phase in the event we don't use the source object as the main object causing the block changes
         // case in point for WorldTick event listeners since the players are captured non-deterministically
         try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
@@ -547,6 +524,13 @@ public static boolean processBlockCaptures(List<BlockSnapshot> snapshots, IPhase
                 // TODO - this should be a thing to associate additional objects in the cause, or context, but for now it's just a simple
                 // try catch to avoid bombing on performing block changes.
             }
+            if (!ShouldFire.CHANGE_BLOCK_EVENT) {
+                // Nothing can cancel or invalidate the changes, so there is no need to build any events
+                return performBlockAdditions(createTransactions(snapshots), state, context, true);
+            }
+            final ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = createTransactionArrays(snapshots);
+            final List<ChangeBlockEvent> blockEvents = new ArrayList<>(EVENT_COUNT);
+            final ChangeBlockEvent[] mainEvents = new ChangeBlockEvent[BlockChange.values().length];
             // Creates the block events accordingly to the transaction arrays
             iterateChangeBlockEvents(transactionArrays, blockEvents, mainEvents); // Needs to throw events
             // We create the post event and of course post it in the method, regardless whether any transactions are invalidated or not
@@ -632,6 +616,58 @@ public static boolean processBlockCaptures(List<BlockSnapshot> snapshots, IPhase
         }
     }
 
+    /**
+     * Creates the transactions of the given snapshots in capture order, for
+     * when no block change events need to be thrown.
+     *
+     * @param snapshots The captured snapshots
+     * @return The transactions
+     */
+    public static List<Transaction<BlockSnapshot>> createTransactions(List<BlockSnapshot> snapshots) {
+        final List<Transaction<BlockSnapshot>> transactions = new ArrayList<>(snapshots.size());
+        for (BlockSnapshot snapshot : snapshots) {
+            transactions.add(TRANSACTION_CREATION.apply(snapshot));
+        }
+        return transactions;
+    }
+
+    /**
+     * Creates the transactions of the given snapshots, split into a list per
+     * {@link BlockChange} and a list of all transactions at
+     * {@link #MULTI_CHANGE_INDEX}. The lists are collected in per thread
+     * buffers which are reused between calls.
+     *
+     * @param snapshots The captured snapshots
+     * @return The transaction lists, indexed by block change ordinal
+     */
+    @SuppressWarnings("unchecked")
+    public static ImmutableList<Transaction<BlockSnapshot>>[] createTransactionArrays(List<BlockSnapshot> snapshots) {
+        final List<Transaction<BlockSnapshot>>[] buffers = TRANSACTION_BUFFERS.get();
+        final ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = new ImmutableList[EVENT_COUNT];
+        try {
+            for (BlockSnapshot snapshot : snapshots) {
+                // This processes each snapshot to assign them to the correct event in the next area, with the
+                // correct list.
+                final Transaction<BlockSnapshot> transaction = TRANSACTION_CREATION.apply(snapshot);
+                buffers[((SpongeBlockSnapshot) snapshot).blockChange.ordinal()].add(transaction);
+                buffers[MULTI_CHANGE_INDEX].add(transaction);
+            }
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                // Build each event array
+                transactionArrays[i] = ImmutableList.copyOf(buffers[i]);
+            }
+        } finally {
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                if (buffers[i].size() > MAX_RETAINED_TRANSACTIONS) {
+                    buffers[i] = new ArrayList<>();
+                } else {
+                    buffers[i].clear();
+                }
+            }
+        }
+        return transactionArrays;
+    }
+
     public static void iterateChangeBlockEvents(ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays, List<ChangeBlockEvent> blockEvents,
             ChangeBlockEvent[] mainEvents) {
         for (BlockChange blockChange : BlockChange.values()) {
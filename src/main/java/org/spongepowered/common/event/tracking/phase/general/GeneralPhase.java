@@ -131,28 +131,11 @@ public void postDispatch(IPhaseState unwindingState, PhaseContext unwindingConte
      * @param unwindingState
      * @param unwinding
      */
-    @SuppressWarnings({"unchecked"})
     public static void processBlockTransactionListsPost(PhaseContext postContext, List<BlockSnapshot> snapshotsToProcess,
         IPhaseState unwindingState, PhaseContext unwinding) {
         final List<Transaction<BlockSnapshot>> invalidTransactions = new ArrayList<>();
-        ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = new ImmutableList[TrackingUtil.EVENT_COUNT];
-        ImmutableList.Builder<Transaction<BlockSnapshot>>[] transactionBuilders = new ImmutableList.Builder[TrackingUtil.EVENT_COUNT];
-        for (int i = 0; i < TrackingUtil.EVENT_COUNT; i++) {
-            transactionBuilders[i] = new ImmutableList.Builder<>();
-        }
-        final List<ChangeBlockEvent> blockEvents = new ArrayList<>();
-
-        for (BlockSnapshot snapshot : snapshotsToProcess) {
-            // This processes each snapshot to assign them to the correct event in the next area, with the
-            // correct builder array entry.
-            TrackingUtil.TRANSACTION_PROCESSOR.apply(transactionBuilders)
-                    .accept(TrackingUtil.TRANSACTION_CREATION.apply(snapshot));
-        }
-
-        for (int i = 0; i < TrackingUtil.EVENT_COUNT; i++) {
-            // Build each event array
-            transactionArrays[i] = transactionBuilders[i].build();
-        }
+        final ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = TrackingUtil.createTransactionArrays(snapshotsToProcess);
+        final List<ChangeBlockEvent> blockEvents = new ArrayList<>(TrackingUtil.EVENT_COUNT);
         final ChangeBlockEvent[] mainEvents = new ChangeBlockEvent[BlockChange.values().length];
         // This likely needs to delegate to the phase in the event we don't use the source object as the main object causing the block changes
         // case in point for WorldTick event listeners since the players are captured non-deterministically
@@ -44,6 +44,7 @@
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.explosion.Explosion;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.TrackingUtil;
@@ -95,28 +96,10 @@ void processPostTick(PhaseContext context) {
         }
     }
 
-    @SuppressWarnings({"unchecked"})
     private void processBlockCaptures(List<BlockSnapshot> snapshots, Explosion explosion, Cause cause, PhaseContext context) {
         if (snapshots.isEmpty()) {
             return;
         }
-        ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = new ImmutableList[TrackingUtil.EVENT_COUNT];
-        ImmutableList.Builder<Transaction<BlockSnapshot>>[] transactionBuilders = new ImmutableList.Builder[TrackingUtil.EVENT_COUNT];
-        for (int i = 0; i < TrackingUtil.EVENT_COUNT; i++) {
-            transactionBuilders[i] = new ImmutableList.Builder<>();
-        }
-        final List<ChangeBlockEvent> blockEvents = new ArrayList<>();
-
-        for (BlockSnapshot snapshot : snapshots) {
-            // This processes each snapshot to assign them to the correct event in the next area, with the
-            // correct builder array entry.
-            TrackingUtil.TRANSACTION_PROCESSOR.apply(transactionBuilders).accept(TrackingUtil.TRANSACTION_CREATION.apply(snapshot));
-        }
-        for (int i = 0; i < TrackingUtil.EVENT_COUNT; i++) {
-            // Build each event array
-            transactionArrays[i] = transactionBuilders[i].build();
-        }
-        final ChangeBlockEvent[] mainEvents = new ChangeBlockEvent[BlockChange.values().length];
         // This likely needs to delegate to the phase in the event we don't use the source object as the main object causing the block changes
         // case in point for WorldTick event listeners since the players are captured non-deterministically
         try (StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
@@ -132,6 +115,14 @@ private void processBlockCaptures(List<BlockSnapshot> snapshots, Explosion explo
                 // TODO - this should be a thing to associate additional objects in the cause, or context, but for now it's just a simple
                 // try catch to avoid bombing on performing block changes.
             }
+            if (!ShouldFire.CHANGE_BLOCK_EVENT && !ShouldFire.EXPLOSION_EVENT_POST) {
+                // Nothing can cancel or invalidate the changes, so there is no need to build any events
+                TrackingUtil.performBlockAdditions(TrackingUtil.createTransactions(snapshots), this, context, true);
+                return;
+            }
+            final ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = TrackingUtil.createTransactionArrays(snapshots);
+            final List<ChangeBlockEvent> blockEvents = new ArrayList<>(TrackingUtil.EVENT_COUNT);
+            final ChangeBlockEvent[] mainEvents = new ChangeBlockEvent[BlockChange.values().length];
             // Creates the block events accordingly to the transaction arrays
             iterateChangeBlockEvents(transactionArrays, blockEvents, mainEvents); // Needs to throw events
             // We create the post event and of course post it in the method, regardless whether any transactions are invalidated or not
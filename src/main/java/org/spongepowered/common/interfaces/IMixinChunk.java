@@ -37,13 +37,13 @@
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.extent.EntityUniverse;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerStore;
+import org.spongepowered.common.util.ConcurrentShortPositionSet;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
@@ -51,9 +51,7 @@
 
 public interface IMixinChunk {
 
-    Map<Short, PlayerTracker> getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> getTrackedIntPlayerPositions();
+    PlayerTrackerStore getPlayerTrackerStore();
 
     Optional<User> getBlockOwner(BlockPos pos);
 
@@ -63,6 +61,16 @@ public interface IMixinChunk {
 
     Optional<UUID> getBlockNotifierUUID(BlockPos pos);
 
+    /**
+     * Gets the notifier of the block at the given position, or its owner if it
+     * has no notifier, with a single lookup.
+     *
+     * @param pos The position
+     * @return The notifier or owner, if available
+     */
+    @Nullable
+    User getBlockNotifierOrOwner(BlockPos pos);
+
     @Nullable
     IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState currentState, @Nullable BlockSnapshot originalBlockSnapshot);
 
@@ -75,9 +83,7 @@ public interface IMixinChunk {
 
     void addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
-
-    void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    void setPlayerTrackerStore(PlayerTrackerStore store);
 
     void setNeighbor(Direction direction, Chunk neighbor);
 
@@ -117,5 +123,5 @@ void getIntersectingEntities(Vector3d start, Vector3d direction, double distance
 
     boolean isQueuedForUnload();
 
-    CopyOnWriteArrayList<Short> getQueuedLightingUpdates(EnumSkyBlock type);
+    ConcurrentShortPositionSet getQueuedLightingUpdates(EnumSkyBlock type);
 }
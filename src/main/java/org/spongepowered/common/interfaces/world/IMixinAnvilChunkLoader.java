@@ -24,10 +24,15 @@
  */
 package org.spongepowered.common.interfaces.world;
 
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
+import javax.annotation.Nullable;
+
 public interface IMixinAnvilChunkLoader {
 
     // Forge method
@@ -35,4 +40,27 @@ public interface IMixinAnvilChunkLoader {
 
     Path getWorldDir();
 
+    /**
+     * Reads the stored data of a chunk, preferring data still waiting to be
+     * saved over the region file. May be called off the main thread.
+     *
+     * @param x The chunk x position
+     * @param z The chunk z position
+     * @return The chunk data, or null if the chunk isn't stored
+     * @throws IOException If the region file couldn't be read
+     */
+    @Nullable NBTTagCompound readChunkData(int x, int z) throws IOException;
+
+    /**
+     * Creates a chunk from data read with {@link #readChunkData(int, int)}.
+     * Must be called from the main thread.
+     *
+     * @param world The world of the chunk
+     * @param x The chunk x position
+     * @param z The chunk z position
+     * @param data The chunk data
+     * @return The chunk, or null if the data is invalid
+     */
+    @Nullable Chunk readChunk(World world, int x, int z, NBTTagCompound data);
+
 }
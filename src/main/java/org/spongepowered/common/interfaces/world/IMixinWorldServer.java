@@ -42,6 +42,7 @@
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.world.AsyncLightingBatcher;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
@@ -100,6 +101,14 @@ default boolean forceSpawnEntity(Entity entity) {
 
     ExecutorService getLightingExecutor();
 
+    /**
+     * Gets the batcher collecting the async lighting work of ticked chunks,
+     * if lighting batching is enabled.
+     *
+     * @return The lighting batcher, or null if batching is disabled
+     */
+    @Nullable AsyncLightingBatcher getLightingBatcher();
+
     WorldTimingsHandler getTimingsHandler();
 
     int getChunkGCTickInterval();
@@ -28,6 +28,7 @@
 
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.IChunkLoader;
 
 public interface IMixinChunkProviderServer {
 
@@ -44,4 +45,33 @@ public interface IMixinChunkProviderServer {
     long getChunkUnloadDelay();
 
     WorldServer getWorld();
+
+    IChunkLoader getChunkLoader();
+
+    /**
+     * Adds a chunk whose terrain was generated off the main thread to the
+     * loaded chunks, then loads and populates it the same way
+     * {@link net.minecraft.world.gen.ChunkProviderServer#provideChunk(int, int)}
+     * would. Must be called from the main thread.
+     *
+     * <p>If the chunk got saved in the meantime, the generated chunk is
+     * discarded and the saved one is loaded instead.</p>
+     *
+     * @param chunk The generated chunk
+     * @return The loaded chunk, which is a different instance if the chunk
+     *     got loaded or saved in the meantime
+     */
+    Chunk insertGeneratedChunk(Chunk chunk);
+
+    /**
+     * Adds a chunk read from storage off the main thread to the loaded
+     * chunks, then loads and populates it the same way
+     * {@link net.minecraft.world.gen.ChunkProviderServer#provideChunk(int, int)}
+     * would. Must be called from the main thread.
+     *
+     * @param chunk The chunk read from storage
+     * @return The loaded chunk, which is a different instance if the chunk
+     *     got loaded in the meantime
+     */
+    Chunk insertLoadedChunk(Chunk chunk);
 }
@@ -183,7 +183,7 @@ public DataContainer toContainer() {
             container.set(DataQueries.DATA_MANIPULATORS, DataUtil.getSerializedImmutableManipulatorList(this.manipulators));
         }
         if (this.compound != null) {
-            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().wrap(this.compound));
         }
         return container;
     }
@@ -983,7 +983,7 @@ public DataContainer toContainer() {
         final NBTTagCompound compound = new NBTTagCompound();
         writeToNBT(compound);
         NbtDataUtil.filterSpongeCustomData(compound); // We must filter the custom data so it isn't stored twice
-        final DataContainer unsafeNbt = NbtTranslator.getInstance().translateFrom(compound);
+        final DataContainer unsafeNbt = NbtTranslator.getInstance().wrap(compound);
         final DataContainer container = DataContainer.createNew()
             .set(Queries.CONTENT_VERSION, getContentVersion())
             .set(DataQueries.ENTITY_CLASS, this.getClass().getName())
@@ -95,6 +95,7 @@
 import org.spongepowered.common.interfaces.entity.IMixinEntityLivingBase;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
 import org.spongepowered.common.registry.type.event.DamageSourceRegistryModule;
+import org.spongepowered.common.world.ParallelWorldTicker;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -257,7 +258,7 @@ public void onDeath(DamageSource cause) {
         }
         // Double check that the CauseTracker is already capturing the Death phase
         final CauseTracker causeTracker = CauseTracker.getInstance();
-        final boolean isMainThread = !this.world.isRemote || Sponge.isServerAvailable() && Sponge.getServer().isMainThread();
+        final boolean isMainThread = !this.world.isRemote || ParallelWorldTicker.isMainOrTickingWorld();
         try (final StackFrame frame = isMainThread ? Sponge.getCauseStackManager().pushCauseFrame() : null) {
             if (!this.world.isRemote) {
                 final PhaseData peek = causeTracker.getCurrentPhaseData();
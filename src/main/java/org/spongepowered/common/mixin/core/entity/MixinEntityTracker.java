@@ -38,6 +38,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.living.human.EntityHuman;
 import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.world.ParallelWorldTicker;
 
 @Mixin(EntityTracker.class)
 public abstract class MixinEntityTracker {
@@ -67,7 +68,8 @@ private IllegalStateException reportEntityAlreadyTrackedWithWorld(String string,
 
     @Inject(method = "track(Lnet/minecraft/entity/Entity;IIZ)V", at = @At("HEAD"), cancellable = true)
     public void onAddEntityToTracker(Entity entityIn, int trackingRange, final int updateFrequency, boolean sendVelocityUpdates, CallbackInfo ci) {
-        if (!SpongeImpl.getServer().isCallingFromMinecraftThread() ) {
+        // The thread ticking this tracker's world in parallel owns it until all worlds are done
+        if (!SpongeImpl.getServer().isCallingFromMinecraftThread() && !ParallelWorldTicker.isTickingWorld(this.world)) {
             Thread.dumpStack();
             SpongeImpl.getLogger().error("Detected attempt to add entity '" + entityIn + "' to tracker asynchronously.\n"
                     + " This is very bad as it can cause ConcurrentModificationException's during a server tick.\n"
@@ -78,7 +80,7 @@ public void onAddEntityToTracker(Entity entityIn, int trackingRange, final int u
 
     @Inject(method = "untrack", at = @At("HEAD"), cancellable = true)
     public void onUntrackEntity(Entity entityIn, CallbackInfo ci) {
-        if (!SpongeImpl.getServer().isCallingFromMinecraftThread() ) {
+        if (!SpongeImpl.getServer().isCallingFromMinecraftThread() && !ParallelWorldTicker.isTickingWorld(this.world)) {
             Thread.dumpStack();
             SpongeImpl.getLogger().error("Detected attempt to untrack entity '" + entityIn + "' asynchronously.\n"
                     + "This is very bad as it can cause ConcurrentModificationException's during a server tick.\n"
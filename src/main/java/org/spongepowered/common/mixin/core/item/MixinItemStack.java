@@ -216,7 +216,7 @@ public DataContainer toContainer() {
             }
             NbtDataUtil.filterSpongeCustomData(compound); // We must filter the custom data so it isn't stored twice
             if (!compound.hasNoTags()) {
-                final DataContainer unsafeNbt = NbtTranslator.getInstance().translateFrom(compound);
+                final DataContainer unsafeNbt = NbtTranslator.getInstance().wrap(compound);
                 container.set(DataQueries.UNSAFE_NBT, unsafeNbt);
             }
         }
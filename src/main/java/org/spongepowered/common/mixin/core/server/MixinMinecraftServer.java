@@ -110,7 +110,9 @@
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ParallelWorldTicker;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.pregen.SpawnAreaPreparer;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.net.InetSocketAddress;
@@ -394,17 +396,25 @@ public void prepareSpawnArea(WorldServer worldServer) {
         LOG.info("Preparing start region for level {} ({})", ((IMixinWorldServer) worldServer).getDimensionId(), ((World) worldServer).getName());
         BlockPos blockpos = worldServer.getSpawnPoint();
         long j = MinecraftServer.getCurrentTimeMillis();
-        for (int k = -192; k <= 192 && this.isServerRunning(); k += 16) {
-            for (int l = -192; l <= 192 && this.isServerRunning(); l += 16) {
-                long i1 = MinecraftServer.getCurrentTimeMillis();
+        if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getWorldGenerationCategory().useParallelSpawnPreparation()) {
+            // Sponge - Read and generate the chunks on the worker threads, the same 25x25 chunks around the spawn point are prepared
+            final SpawnAreaPreparer preparer = new SpawnAreaPreparer(worldServer, blockpos.getX() >> 4, blockpos.getZ() >> 4, 12);
+            preparer.prepare(this::isServerRunning, percent -> this.outputPercentRemaining("Preparing spawn area", percent));
+            LOG.info("Prepared start region for level {} in {} ms ({} chunks loaded, {} generated)", ((IMixinWorldServer) worldServer).getDimensionId(),
+                    MinecraftServer.getCurrentTimeMillis() - j, preparer.getLoadedChunks(), preparer.getGeneratedChunks());
+        } else {
+            for (int k = -192; k <= 192 && this.isServerRunning(); k += 16) {
+                for (int l = -192; l <= 192 && this.isServerRunning(); l += 16) {
+                    long i1 = MinecraftServer.getCurrentTimeMillis();
 
-                if (i1 - j > 1000L) {
-                    this.outputPercentRemaining("Preparing spawn area", i * 100 / 625);
-                    j = i1;
-                }
+                    if (i1 - j > 1000L) {
+                        this.outputPercentRemaining("Preparing spawn area", i * 100 / 625);
+                        j = i1;
+                    }
 
-                ++i;
-                worldServer.getChunkProvider().provideChunk(blockpos.getX() + k >> 4, blockpos.getZ() + l >> 4);
+                    ++i;
+                    worldServer.getChunkProvider().provideChunk(blockpos.getX() + k >> 4, blockpos.getZ() + l >> 4);
+                }
             }
         }
         this.clearCurrentTask();
@@ -619,6 +629,24 @@ public void onUpdateTimeLightAndEntitiesHead(CallbackInfo ci) {
                 }
             }
         }
+        // The worlds ticked here are skipped by the world loop, which still ticks their entity trackers on the main thread
+        if (ParallelWorldTicker.isEnabled()) {
+            ParallelWorldTicker.tickWorlds(this.worlds, getAllowNether());
+        }
+    }
+
+    @Redirect(method = "updateTimeLightAndEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/WorldServer;tick()V"))
+    public void onUpdateTimeLightAndEntitiesTick(WorldServer worldServer) {
+        if (ParallelWorldTicker.shouldTick(worldServer)) {
+            worldServer.tick();
+        }
+    }
+
+    @Redirect(method = "updateTimeLightAndEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/WorldServer;updateEntities()V"))
+    public void onUpdateTimeLightAndEntitiesUpdateEntities(WorldServer worldServer) {
+        if (ParallelWorldTicker.shouldUpdateEntities(worldServer)) {
+            worldServer.updateEntities();
+        }
     }
 
     @Redirect(method = "updateTimeLightAndEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/WorldServer;getEntityTracker()Lnet/minecraft/entity/EntityTracker;"))
@@ -636,6 +664,8 @@ public EntityTracker onUpdateTimeLightAndEntitiesGetEntityTracker(WorldServer wo
     @Inject(method = "tick", at = @At(value = "HEAD"))
     public void onServerTickStart(CallbackInfo ci) {
         TimingsManager.FULL_SERVER_TICK.startTiming();
+        // Finish the worlds loaded, unloaded or saved asynchronously whose disk work is done
+        WorldManager.processLifecycleQueue();
     }
 
     @Inject(method = "tick", at = @At(value = "RETURN"))
@@ -94,6 +94,7 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.BlockUtil;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerStore;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.CauseTracker;
@@ -112,6 +113,7 @@
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeVolumeWorker;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
 import org.spongepowered.common.world.gen.WorldGenConstants;
+import org.spongepowered.common.world.gen.WorldGenProfiler;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.util.ArrayList;
@@ -143,6 +145,8 @@ public abstract class MixinChunk implements Chunk, IMixinChunk, IMixinCachable {
     private static final Direction[] CARDINAL_DIRECTIONS = new Direction[] {Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
 
     private static final Vector3i BIOME_SIZE = new Vector3i(SpongeChunkLayout.CHUNK_SIZE.getX(), 1, SpongeChunkLayout.CHUNK_SIZE.getZ());
+    // Never written to, block tracking is implemented by MixinChunk_Tracker
+    private static final PlayerTrackerStore EMPTY_TRACKER_STORE = new PlayerTrackerStore();
     private Vector3i chunkPos;
     private Vector3i blockMin;
     private Vector3i blockMax;
@@ -630,6 +634,9 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
         // Sponge end
 
         extendedblockstorage.set(xPos, yPos & 15, zPos, newState);
+        if (WorldGenProfiler.isEnabled()) {
+            WorldGenProfiler.onBlockChange(this.world);
+        }
 
         // Sponge Start
         // if (block1 != block) // Sponge - Forge removes this change.
@@ -731,13 +738,8 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
     }
 
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
-        return Collections.emptyMap();
-    }
-
-    @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
-        return Collections.emptyMap();
+    public PlayerTrackerStore getPlayerTrackerStore() {
+        return EMPTY_TRACKER_STORE;
     }
 
     @Override
@@ -760,22 +762,24 @@ public Optional<UUID> getBlockNotifierUUID(BlockPos pos) {
         return Optional.empty();
     }
 
+    @Nullable
     @Override
-    public void setBlockNotifier(BlockPos pos, @Nullable UUID uuid) {
-
+    public User getBlockNotifierOrOwner(BlockPos pos) {
+        return null;
     }
 
     @Override
-    public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
+    public void setBlockNotifier(BlockPos pos, @Nullable UUID uuid) {
 
     }
 
     @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
+    public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
+
     }
 
     @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
+    public void setPlayerTrackerStore(PlayerTrackerStore store) {
     }
 
     // Continuing the rest of the implementation
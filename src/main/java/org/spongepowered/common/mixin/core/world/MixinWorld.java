@@ -142,6 +142,7 @@
 import org.spongepowered.common.mixin.tileentityactivation.MixinWorldServer_TileEntityActivation;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ParallelWorldTicker;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeVolumeWorker;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
@@ -1255,7 +1256,7 @@ public net.minecraft.tileentity.TileEntity getTileEntity(BlockPos pos) {
             if (tileentity == null) {
                 // Sponge - Don't create tileentity async, simply check if TE exists in chunk
                 // Mods such as pixelmon call this method async, so this is a temporary workaround until fixed
-                if (!this.isRemote && !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+                if (!this.isRemote && !SpongeImpl.getServer().isCallingFromMinecraftThread() && !ParallelWorldTicker.isTickingWorld()) {
                     return this.getChunkFromBlockCoords(pos).getTileEntity(pos, net.minecraft.world.chunk.Chunk.EnumCreateEntityType.CHECK);
                 } else {
                     tileentity = this.getChunkFromBlockCoords(pos).getTileEntity(pos, net.minecraft.world.chunk.Chunk.EnumCreateEntityType.IMMEDIATE);
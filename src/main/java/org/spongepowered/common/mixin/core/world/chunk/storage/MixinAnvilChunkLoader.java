@@ -25,13 +25,15 @@
 package org.spongepowered.common.mixin.core.world.chunk.storage;
 
 import com.flowpowered.math.vector.Vector3d;
-import com.google.common.collect.Maps;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -63,18 +65,22 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.data.util.NbtDataUtil;
-import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerStore;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.QueuedChunk;
 
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
+import javax.annotation.Nullable;
+
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
 public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
@@ -89,42 +95,26 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
     @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToRemove;
     @Shadow @Final private File chunkSaveLocation;
     @Shadow private boolean flushing;
+    @Shadow @Final public DataFixer fixer;
 
     @Shadow
     public abstract void writeChunkData(ChunkPos pos, NBTTagCompound compound);
+    @Shadow @Nullable protected abstract Chunk checkedReadChunkFromNBT(World worldIn, int x, int z, NBTTagCompound compound);
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
         IMixinChunk chunk = (IMixinChunk) chunkIn;
 
         // Add tracked block positions
-        if (chunk.getTrackedShortPlayerPositions().size() > 0 || chunk.getTrackedIntPlayerPositions().size() > 0) {
+        final PlayerTrackerStore trackerStore = chunk.getPlayerTrackerStore();
+        if (!trackerStore.isEmpty()) {
+            // Stored as parallel int arrays, see PlayerTrackerStore#key for the position layout
+            final int[][] trackers = trackerStore.toArrays();
             NBTTagCompound trackedNbt = new NBTTagCompound();
-            NBTTagList positions = new NBTTagList();
-            trackedNbt.setTag(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, positions);
+            trackedNbt.setIntArray(NbtDataUtil.SPONGE_TRACKED_POSITIONS, trackers[0]);
+            trackedNbt.setIntArray(NbtDataUtil.SPONGE_TRACKED_OWNERS, trackers[1]);
+            trackedNbt.setIntArray(NbtDataUtil.SPONGE_TRACKED_NOTIFIERS, trackers[2]);
             compound.setTag(NbtDataUtil.SPONGE_DATA, trackedNbt);
-
-            for (Map.Entry<Short, PlayerTracker> mapEntry : chunk.getTrackedShortPlayerPositions().entrySet()) {
-                Short pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setShort("pos", pos);
-                positions.appendTag(valueNbt);
-            }
-
-            for (Map.Entry<Integer, PlayerTracker> mapEntry : chunk.getTrackedIntPlayerPositions().entrySet()) {
-                Integer pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setInteger("ipos", pos);
-                positions.appendTag(valueNbt);
-            }
         }
     }
 
@@ -132,33 +122,42 @@ public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World wor
     public void onReadChunkFromNBT(World worldIn, NBTTagCompound compound, CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> ci, int chunkX,
             int chunkZ, net.minecraft.world.chunk.Chunk chunkIn) {
         if (compound.hasKey(NbtDataUtil.SPONGE_DATA)) {
-            Map<Integer, PlayerTracker> trackedIntPlayerPositions = Maps.newHashMap();
-            Map<Short, PlayerTracker> trackedShortPlayerPositions = Maps.newHashMap();
-            NBTTagList positions = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA).getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, 10);
+            final NBTTagCompound trackedNbt = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA);
             IMixinChunk chunk = (IMixinChunk) chunkIn;
+            if (trackedNbt.hasKey(NbtDataUtil.SPONGE_TRACKED_POSITIONS, NbtDataUtil.TAG_INT_ARRAY)) {
+                final int[] positions = trackedNbt.getIntArray(NbtDataUtil.SPONGE_TRACKED_POSITIONS);
+                final int[] owners = trackedNbt.getIntArray(NbtDataUtil.SPONGE_TRACKED_OWNERS);
+                final int[] notifiers = trackedNbt.getIntArray(NbtDataUtil.SPONGE_TRACKED_NOTIFIERS);
+                if (positions.length == owners.length && positions.length == notifiers.length) {
+                    chunk.setPlayerTrackerStore(new PlayerTrackerStore(positions, owners, notifiers));
+                } else {
+                    SpongeImpl.getLogger().error("Discarding corrupted block tracking data of chunk ({}, {}) in {}", chunkX, chunkZ,
+                            worldIn.getWorldInfo().getWorldName());
+                }
+                return;
+            }
+            // Legacy format of one compound per position, these are written in the compact format on the next save
+            PlayerTrackerStore trackerStore = new PlayerTrackerStore();
+            NBTTagList positions = trackedNbt.getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, NbtDataUtil.TAG_COMPOUND);
             for (int i = 0; i < positions.tagCount(); i++) {
                 NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
                 boolean isShortPos = valueNbt.hasKey("pos");
-                PlayerTracker tracker = new PlayerTracker();
+                int ownerIndex = PlayerTrackerStore.NO_INDEX;
+                int notifierIndex = PlayerTrackerStore.NO_INDEX;
                 if (valueNbt.hasKey("owner")) {
-                    tracker.ownerIndex = valueNbt.getInteger("owner");
+                    ownerIndex = valueNbt.getInteger("owner");
                 } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
-                    tracker.ownerIndex = valueNbt.getInteger("uuid");
+                    ownerIndex = valueNbt.getInteger("uuid");
                 }
                 if (valueNbt.hasKey("notifier")) {
-                    tracker.notifierIndex = valueNbt.getInteger("notifier");
+                    notifierIndex = valueNbt.getInteger("notifier");
                 }
 
-                if (tracker.notifierIndex != -1 || tracker.ownerIndex != -1) {
-                    if (isShortPos) {
-                        trackedShortPlayerPositions.put(valueNbt.getShort("pos"), tracker);
-                    } else {
-                        trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), tracker);
-                    }
-                }
+                final int pos = isShortPos ? PlayerTrackerStore.fromShort(valueNbt.getShort("pos")) : valueNbt.getInteger("ipos");
+                // Entries without an owner and a notifier are dropped by the store
+                trackerStore.set(pos, ownerIndex, notifierIndex);
             }
-            chunk.setTrackedIntPlayerPositions(trackedIntPlayerPositions);
-            chunk.setTrackedShortPlayerPositions(trackedShortPlayerPositions);
+            chunk.setPlayerTrackerStore(trackerStore);
         }
     }
 
@@ -308,4 +307,25 @@ public Path getWorldDir() {
         return this.chunkSaveLocation.toPath();
     }
 
+    @Nullable
+    @Override
+    public NBTTagCompound readChunkData(int x, int z) throws IOException {
+        // Same lookup as loadChunk, chunks pending a save must not be read from the outdated region file
+        final NBTTagCompound pending = this.chunksToRemove.get(new ChunkPos(x, z));
+        if (pending != null) {
+            return pending;
+        }
+        final DataInputStream stream = RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z);
+        if (stream == null) {
+            return null;
+        }
+        return this.fixer.process(FixTypes.CHUNK, CompressedStreamTools.read(stream));
+    }
+
+    @Nullable
+    @Override
+    public Chunk readChunk(World world, int x, int z, NBTTagCompound data) {
+        return this.checkedReadChunkFromNBT(world, x, z, data);
+    }
+
 }
@@ -48,13 +48,14 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.interfaces.world.gen.IPopulatorProvider;
+import org.spongepowered.common.interfaces.world.gen.IStatelessGenerator;
 import org.spongepowered.common.world.gen.WorldGenConstants;
 import org.spongepowered.common.world.gen.populators.FilteredPopulator;
 
 import java.util.Map;
 
 @Mixin(ChunkGeneratorFlat.class)
-public class MixinChunkGeneratorFlat implements GenerationPopulator, IPopulatorProvider {
+public class MixinChunkGeneratorFlat implements GenerationPopulator, IPopulatorProvider, IStatelessGenerator {
 
     @Shadow @Final private IBlockState[] cachedBlockIDs;
     @Shadow @Final private Map<String, MapGenStructure> structureGenerators;
@@ -50,6 +50,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.config.SpongeConfig;
+import org.spongepowered.common.config.category.ChunkDataStreamCategory;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.IPhaseState;
@@ -65,13 +66,16 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.CachedLong2ObjectMap;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.ParallelWorldTicker;
 import org.spongepowered.common.world.SpongeEmptyChunk;
+import org.spongepowered.common.world.storage.MappedChunkDataStream;
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 
 @Mixin(ChunkProviderServer.class)
 public abstract class MixinChunkProviderServer implements WorldStorage, IMixinChunkProviderServer {
@@ -115,6 +119,11 @@ public ChunkDataStream getGeneratedChunks() {
         if (!(this.chunkLoader instanceof IMixinAnvilChunkLoader)) {
             throw new UnsupportedOperationException("unknown chunkLoader");
         }
+        final ChunkDataStreamCategory category = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getChunkDataStreamCategory();
+        if (category.isMemoryMapped()) {
+            return new MappedChunkDataStream(((IMixinAnvilChunkLoader) this.chunkLoader).getWorldDir(), ForkJoinPool.commonPool(),
+                    category.getInFlightWindow());
+        }
         return new SpongeChunkDataStream(((IMixinAnvilChunkLoader) this.chunkLoader).getWorldDir());
     }
 
@@ -150,6 +159,60 @@ public void queueUnload(Chunk chunkIn)
         }
     }
 
+    @Override
+    public IChunkLoader getChunkLoader() {
+        return this.chunkLoader;
+    }
+
+    @Override
+    public Chunk insertGeneratedChunk(Chunk chunk) {
+        final Chunk loaded = this.getLoadedChunk(chunk.x, chunk.z);
+        if (loaded != null) {
+            return loaded;
+        }
+        // The chunk may have been loaded, modified and saved again since the worker found it missing,
+        // the generated terrain must not replace it
+        if (this.chunkLoader.isChunkGeneratedAt(chunk.x, chunk.z)) {
+            final Chunk saved = this.loadChunkForce(chunk.x, chunk.z);
+            if (saved != null) {
+                return saved;
+            }
+        }
+
+        if (CauseTracker.ENABLED) {
+            CauseTracker.getInstance().switchToPhase(GenerationPhase.State.TERRAIN_GENERATION, PhaseContext.start()
+                    .addCaptures()
+                    .addExtra(InternalNamedCauses.WorldGeneration.WORLD, this.world)
+                    .complete());
+        }
+        try {
+            this.id2ChunkMap.put(ChunkPos.asLong(chunk.x, chunk.z), chunk);
+            chunk.onLoad();
+            chunk.populate((ChunkProviderServer) (Object) this, this.chunkGenerator);
+        } finally {
+            if (CauseTracker.ENABLED) {
+                CauseTracker.getInstance().completePhase(GenerationPhase.State.TERRAIN_GENERATION);
+            }
+        }
+        return chunk;
+    }
+
+    @Override
+    public Chunk insertLoadedChunk(Chunk chunk) {
+        final Chunk loaded = this.getLoadedChunk(chunk.x, chunk.z);
+        if (loaded != null) {
+            return loaded;
+        }
+
+        // Same as loadChunkFromFile followed by loadChunkForce
+        chunk.setLastSaveTime(this.world.getTotalWorldTime());
+        this.chunkGenerator.recreateStructures(chunk, chunk.x, chunk.z);
+        this.id2ChunkMap.put(ChunkPos.asLong(chunk.x, chunk.z), chunk);
+        chunk.onLoad();
+        chunk.populate((ChunkProviderServer) (Object) this, this.chunkGenerator);
+        return chunk;
+    }
+
     // split from loadChunk to avoid 2 lookups with our inject
     private Chunk loadChunkForce(int x, int z) {
         Chunk chunk = this.loadChunkFromFile(x, z);
@@ -208,7 +271,7 @@ public void onError(CallbackInfoReturnable<Chunk> ci) {
     }
 
     private boolean canDenyChunkRequest() {
-        if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        if (!SpongeImpl.getServer().isCallingFromMinecraftThread() && !ParallelWorldTicker.isTickingWorld()) {
             return true;
         }
 
@@ -46,6 +46,7 @@ public abstract class MixinEntity_Activation implements Entity, IModData_Activat
     public long activatedTick = Integer.MIN_VALUE;
     private int activationRange;
     private boolean refreshCache = false;
+    private int activatedTickInterval = 1;
 
     @Shadow public World world;
     @Shadow public boolean onGround;
@@ -105,4 +106,14 @@ public void requiresActivationCacheRefresh(boolean flag) {
     public boolean requiresActivationCacheRefresh() {
         return this.refreshCache;
     }
+
+    @Override
+    public int getActivatedTickInterval() {
+        return this.activatedTickInterval;
+    }
+
+    @Override
+    public void setActivatedTickInterval(int interval) {
+        this.activatedTickInterval = interval;
+    }
 }
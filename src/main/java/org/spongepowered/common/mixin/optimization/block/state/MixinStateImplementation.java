@@ -32,17 +32,34 @@
 import net.minecraft.block.state.BlockStateContainer;
 import net.minecraft.block.state.IBlockState;
 import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Implements;
+import org.spongepowered.asm.mixin.Interface;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.block.BlockStateTransitionTable;
+import org.spongepowered.common.interfaces.block.IMixinStateTransitions;
+
+import javax.annotation.Nullable;
 
 @Mixin(BlockStateContainer.StateImplementation.class)
-public abstract class MixinStateImplementation extends BlockStateBase {
+public abstract class MixinStateImplementation extends BlockStateBase implements IMixinStateTransitions {
 
     @Shadow @Final private Block block;
     @Shadow @Final private ImmutableMap<IProperty<?>, Comparable<?>> properties;
     @Shadow private ImmutableTable<IProperty<?>, Comparable<?>, IBlockState> propertyValueTable;
 
+    @Nullable private BlockStateTransitionTable transitionTable;
+    @Nullable private int[] valueIndices;
+    @Nullable private IBlockState[] transitions;
+
+    @Override
+    public void setTransitions(BlockStateTransitionTable table, int[] valueIndices, IBlockState[] transitions) {
+        this.transitionTable = table;
+        this.valueIndices = valueIndices;
+        this.transitions = transitions;
+    }
+
     /**
      * @author gabizou - April 8th, 2016
      *
@@ -58,6 +75,10 @@ public abstract class MixinStateImplementation extends BlockStateBase {
      *
      * <p>This is partially contributed code from Aikar in PaperSpigot.</p>
      *
+     * <p>Once the block state container has built the
+     * {@link BlockStateTransitionTable} of this state, the lookup is an
+     * array read instead.</p>
+     *
      * @param property The property to use
      * @param value The value keyed to the property
      * @param <T> The type of property
@@ -65,10 +86,22 @@ public abstract class MixinStateImplementation extends BlockStateBase {
      * @return The block state, if not already this block state
      */
     @Overwrite
-    @Final
     @Override
     public <T extends Comparable<T>, V extends T> IBlockState withProperty(IProperty<T> property, V value) {
         // Sponge - eliminate the hash lookups and validation lookups
+        final BlockStateTransitionTable table = this.transitionTable;
+        if (table != null) {
+            final int propertyIndex = table.getPropertyIndex(property);
+            if (propertyIndex < 0) {
+                throw new IllegalArgumentException("Cannot set property " + property + " as it does not exist in " + this.block.getBlockState());
+            }
+            final int valueIndex = table.getValueIndex(propertyIndex, value);
+            if (valueIndex < 0) {
+                throw new IllegalArgumentException("Cannot set property " + property + " to " + value + " on block "
+                        + Block.REGISTRY.getNameForObject(this.block) + ", it is not an allowed value");
+            }
+            return this.transitions[table.getOffset(propertyIndex) + valueIndex];
+        }
         if (this.properties.get(property) == value) {
             return this;
         }
@@ -79,4 +112,32 @@ public <T extends Comparable<T>, V extends T> IBlockState withProperty(IProperty
         return blockState;
     }
 
+    /**
+     * @author Sponge - October 16th, 2026
+     *
+     * @reason Cycles through the {@link BlockStateTransitionTable} of this
+     * state, the next value is the next index of the property.
+     *
+     * <p>Subclasses such as extended states carrying unlisted properties
+     * keep going through their own {@code withProperty}.</p>
+     *
+     * @param property The property to cycle
+     * @param <T> The type of property
+     * @return The block state with the next value of the property
+     */
+    @Overwrite
+    @Override
+    public <T extends Comparable<T>> IBlockState cycleProperty(IProperty<T> property) {
+        final BlockStateTransitionTable table = this.transitionTable;
+        if (table != null && this.getClass() == BlockStateContainer.StateImplementation.class) {
+            final int propertyIndex = table.getPropertyIndex(property);
+            if (propertyIndex < 0) {
+                throw new IllegalArgumentException("Cannot get property " + property + " as it does not exist in " + this.block.getBlockState());
+            }
+            final int valueIndex = (this.valueIndices[propertyIndex] + 1) % table.getValueCount(propertyIndex);
+            return this.transitions[table.getOffset(propertyIndex) + valueIndex];
+        }
+        return this.withProperty(property, cyclePropertyValue(property.getAllowedValues(), this.getValue(property)));
+    }
+
 }
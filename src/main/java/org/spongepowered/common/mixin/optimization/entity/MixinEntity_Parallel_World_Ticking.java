@@ -0,0 +1,63 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.entity;
+
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.lib.Opcodes;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
+
+@Mixin(Entity.class)
+public abstract class MixinEntity_Parallel_World_Ticking {
+
+    // Entities are constructed by all the worlds ticking at once, the vanilla counter is not safe to increment concurrently
+    private static final Object ENTITY_ID_LOCK = new Object();
+
+    @Shadow public static int nextEntityID;
+
+    /**
+     * Allocates the id of a new entity from {@link Entity#nextEntityID},
+     * which stays the only id counter so ids reserved directly from it by
+     * other code never collide with entity ids. Only the increment in the
+     * constructor is guarded, other code touching the field is expected to
+     * run on the main thread, which never runs while worlds are ticking.
+     *
+     * @return The id of the entity being constructed
+     */
+    @Redirect(method = "<init>", at = @At(value = "FIELD", target = "Lnet/minecraft/entity/Entity;nextEntityID:I", opcode = Opcodes.GETSTATIC))
+    private int onGetNextEntityId() {
+        synchronized (ENTITY_ID_LOCK) {
+            return nextEntityID++;
+        }
+    }
+
+    @Redirect(method = "<init>", at = @At(value = "FIELD", target = "Lnet/minecraft/entity/Entity;nextEntityID:I", opcode = Opcodes.PUTSTATIC))
+    private void onSetNextEntityId(int nextEntityId) {
+        // Already incremented while allocating the id
+    }
+
+}
@@ -44,11 +44,12 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.util.ConcurrentShortPositionSet;
+import org.spongepowered.common.world.AsyncLightingBatcher;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -56,9 +57,9 @@
 public abstract class MixinChunk_Async_Lighting implements IMixinChunk {
 
     // Keeps track of block positions in this chunk currently queued for sky light update
-    private CopyOnWriteArrayList<Short> queuedSkyLightingUpdates = new CopyOnWriteArrayList<>();
+    private final ConcurrentShortPositionSet queuedSkyLightingUpdates = new ConcurrentShortPositionSet();
     // Keeps track of block positions in this chunk currently queued for block light update
-    private CopyOnWriteArrayList<Short> queuedBlockLightingUpdates = new CopyOnWriteArrayList<>();
+    private final ConcurrentShortPositionSet queuedBlockLightingUpdates = new ConcurrentShortPositionSet();
     private AtomicInteger pendingLightUpdates = new AtomicInteger();
     private long lightUpdateTime;
     private ExecutorService lightExecutorService;
@@ -121,7 +122,7 @@ private void onTickHead(boolean skipRecheckGaps, CallbackInfo ci)
             final List<Chunk> neighbors = this.getSurroundingChunks();
             if (this.isGapLightingUpdated && this.world.provider.hasSkyLight() && !skipRecheckGaps && !neighbors.isEmpty())
             {
-                this.lightExecutorService.execute(() -> {
+                this.submitLightingWork(() -> {
                     this.recheckGapsAsync(neighbors);
                 });
                 this.isGapLightingUpdated = false;
@@ -131,7 +132,7 @@ private void onTickHead(boolean skipRecheckGaps, CallbackInfo ci)
     
             if (!this.isLightPopulated && this.isTerrainPopulated && !neighbors.isEmpty())
             {
-                this.lightExecutorService.execute(() -> {
+                this.submitLightingWork(() -> {
                     this.checkLightAsync(neighbors);
                 });
                 // set to true to avoid requeuing the same task when not finished
@@ -153,6 +154,15 @@ private void onTickHead(boolean skipRecheckGaps, CallbackInfo ci)
         }
     }
 
+    private void submitLightingWork(Runnable work) {
+        final AsyncLightingBatcher batcher = ((IMixinWorldServer) this.world).getLightingBatcher();
+        if (batcher != null) {
+            batcher.submit(this.x, this.z, work);
+        } else {
+            this.lightExecutorService.execute(work);
+        }
+    }
+
     @Redirect(method = "checkSkylightNeighborHeight", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/World;getHeight(Lnet/minecraft/util/math/BlockPos;)Lnet/minecraft/util/math/BlockPos;"))
     private BlockPos onCheckSkylightGetHeight(World world, BlockPos pos) {
         final Chunk chunk = this.getLightChunk(pos.getX() >> 4, pos.getZ() >> 4, null);
@@ -682,13 +692,13 @@ private boolean checkWorldLight(BlockPos pos, List<Chunk> neighbors) {
     }
 
     /**
-     * Gets the list of block positions currently queued for lighting updates.
+     * Gets the set of block positions currently queued for lighting updates.
      * 
      * @param type The light type
-     * @return The list of queued block positions, empty if none
+     * @return The set of queued block positions, empty if none
      */
     @Override
-    public CopyOnWriteArrayList<Short> getQueuedLightingUpdates(EnumSkyBlock type) {
+    public ConcurrentShortPositionSet getQueuedLightingUpdates(EnumSkyBlock type) {
         if (type == EnumSkyBlock.SKY) {
             return this.queuedSkyLightingUpdates;
         }
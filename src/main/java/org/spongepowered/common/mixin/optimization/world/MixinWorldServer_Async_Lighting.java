@@ -33,6 +33,9 @@
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.interfaces.IMixinChunk;
@@ -40,6 +43,7 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
+import org.spongepowered.common.world.AsyncLightingBatcher;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -57,6 +61,18 @@ public abstract class MixinWorldServer_Async_Lighting extends MixinWorld impleme
 
     private ExecutorService lightExecutorService = 
                 Executors.newFixedThreadPool(SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory().getNumThreads(), new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    @Nullable private AsyncLightingBatcher lightingBatcher =
+                SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory().useBatching()
+                        ? new AsyncLightingBatcher(this.lightExecutorService,
+                                SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingCategory().getBatchSize())
+                        : null;
+
+    @Inject(method = "tick", at = @At("RETURN"))
+    private void onTickFlushLighting(CallbackInfo ci) {
+        if (this.lightingBatcher != null) {
+            this.lightingBatcher.flush();
+        }
+    }
 
     @Override
     public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
@@ -185,7 +201,7 @@ public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecra
             }
 
             // Sponge start - Asynchronous light updates
-            spongeChunk.getQueuedLightingUpdates(lightType).remove((Short) this.blockPosToShort(pos));
+            spongeChunk.getQueuedLightingUpdates(lightType).remove(this.blockPosToShort(pos));
             spongeChunk.getPendingLightUpdates().decrementAndGet();
             for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
                 final IMixinChunk neighbor = (IMixinChunk) neighborChunk;
@@ -214,12 +230,12 @@ public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos, @Nullable
         }
 
         final short shortPos = this.blockPosToShort(pos);
-        if (spongeChunk.getQueuedLightingUpdates(lightType).contains(shortPos)) {
+        // Merges with an update of the same position which is still queued
+        if (!spongeChunk.getQueuedLightingUpdates(lightType).add(shortPos)) {
             return false;
         }
 
         final Chunk chunk = currentChunk;
-        spongeChunk.getQueuedLightingUpdates(lightType).add(shortPos);
         spongeChunk.getPendingLightUpdates().incrementAndGet();
         spongeChunk.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
 
@@ -265,6 +281,12 @@ public ExecutorService getLightingExecutor() {
         return this.lightExecutorService;
     }
 
+    @Nullable
+    @Override
+    public AsyncLightingBatcher getLightingBatcher() {
+        return this.lightingBatcher;
+    }
+
     // Thread safe methods to retrieve a chunk during async light updates
     // Each method avoids calling getLoadedChunk and instead accesses the passed neighbor chunk list to avoid concurrency issues
     public Chunk getLightChunk(BlockPos pos, Chunk currentChunk, List<Chunk> neighbors) {
@@ -93,6 +93,12 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
                     (module) -> true)
             .put("org.spongepowered.common.mixin.optimization.block.MixinBlockRedstoneWire",
                     OptimizationCategory::usePandaRedstone)
+            .put("org.spongepowered.common.mixin.optimization.block.state.MixinBlockStateContainer_Transitions",
+                    OptimizationCategory::useBlockStateTransitions)
+            .put("org.spongepowered.common.mixin.optimization.block.state.MixinStateImplementation",
+                    OptimizationCategory::useBlockStateTransitions)
+            .put("org.spongepowered.common.mixin.optimization.entity.MixinEntity_Parallel_World_Ticking",
+                    OptimizationCategory::useParallelWorldTicking)
             .put("org.spongepowered.common.mixin.optimization.entity.MixinEntityTameable_Cached_Owner",
                     OptimizationCategory::useCacheTameableOwners)
             .put("org.spongepowered.common.mixin.optimization.world.MixinChunk_Async_Lighting",
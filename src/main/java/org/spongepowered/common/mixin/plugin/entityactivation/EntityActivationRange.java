@@ -28,6 +28,8 @@
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntityLivingBase;
@@ -51,6 +53,7 @@
 import net.minecraft.entity.projectile.EntityFireball;
 import net.minecraft.entity.projectile.EntityThrowable;
 import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -62,6 +65,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.config.SpongeConfig;
+import org.spongepowered.common.config.category.ActivationTiersCategory;
 import org.spongepowered.common.config.category.EntityActivationModCategory;
 import org.spongepowered.common.config.category.EntityActivationRangeCategory;
 import org.spongepowered.common.entity.SpongeEntityType;
@@ -72,6 +76,8 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public class EntityActivationRange {
@@ -84,12 +90,9 @@ public class EntityActivationRange {
             .put((byte) 5, "misc")
             .build();
 
-    static AxisAlignedBB maxBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB miscBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB creatureBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB monsterBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB aquaticBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB ambientBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
+    // Entities are activated by players at any height in the world
+    private static final int VERTICAL_RANGE = 256;
+
     static AxisAlignedBB tileEntityBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     static Map<Byte, Integer> maxActivationRanges = Maps.newHashMap();
 
@@ -214,57 +217,104 @@ public static void growBb(AxisAlignedBB target, AxisAlignedBB source, int x, int
      * Find what entities are in range of the players in the world and set
      * active if in range.
      *
+     * <p>The players are first indexed by the chunks within their maximum
+     * activation range, so every chunk and its entities are only visited
+     * once no matter how many players are close to it.</p>
+     *
+     * <p>If tick tiers are enabled, the entities of every activated chunk
+     * are also given the tick interval of the tier matching the distance of
+     * the chunk to the closest player.</p>
+     *
      * @param world The world to perform activation checks in
      */
     public static void activateEntities(World world) {
-        if (((IMixinWorld) world).isFake()) {
+        if (((IMixinWorld) world).isFake() || world.playerEntities.isEmpty()) {
             return;
         }
 
-        for (EntityPlayer player : world.playerEntities) {
-
-            int maxRange = 0;
-            for (Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
+        int maxRange = 0;
+        for (Integer range : maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
             }
+        }
+        maxRange = Math.min((SpongeImpl.getServer().getPlayerList().getViewDistance() << 4) - 8, maxRange);
 
-            maxRange = Math.min((SpongeImpl.getServer().getPlayerList().getViewDistance() << 4) - 8, maxRange);
-            ((IModData_Activation) player).setActivatedTick(SpongeImpl.getServer().getTickCounter());
-            growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
-
-            int i = MathHelper.floor(maxBB.minX / 16.0D);
-            int j = MathHelper.floor(maxBB.maxX / 16.0D);
-            int k = MathHelper.floor(maxBB.minZ / 16.0D);
-            int l = MathHelper.floor(maxBB.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    WorldServer worldserver = (WorldServer) world;
-                    Chunk chunk = ((IMixinChunkProviderServer) worldserver.getChunkProvider()).getLoadedChunkWithoutMarkingActive(i1, j1);
-                    if (chunk != null) {
-                        activateChunkEntities(player, chunk);
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        final Long2ObjectMap<List<EntityPlayer>> playersByChunk = new Long2ObjectOpenHashMap<>();
+        for (EntityPlayer player : world.playerEntities) {
+            ((IModData_Activation) player).setActivatedTick(currentTick);
+            final AxisAlignedBB playerBB = player.getEntityBoundingBox();
+            final int minChunkX = MathHelper.floor((playerBB.minX - maxRange) / 16.0D);
+            final int maxChunkX = MathHelper.floor((playerBB.maxX + maxRange) / 16.0D);
+            final int minChunkZ = MathHelper.floor((playerBB.minZ - maxRange) / 16.0D);
+            final int maxChunkZ = MathHelper.floor((playerBB.maxZ + maxRange) / 16.0D);
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; ++chunkX) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; ++chunkZ) {
+                    final long key = ChunkPos.asLong(chunkX, chunkZ);
+                    List<EntityPlayer> players = playersByChunk.get(key);
+                    if (players == null) {
+                        players = new ArrayList<>(4);
+                        playersByChunk.put(key, players);
                     }
+                    players.add(player);
                 }
             }
         }
+
+        final ActivationTiersCategory tickTiers = ((IMixinWorldServer) world).getActiveConfig().getConfig().getEntityActivationRange().getTickTiers();
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) ((WorldServer) world).getChunkProvider();
+        for (Long2ObjectMap.Entry<List<EntityPlayer>> entry : playersByChunk.long2ObjectEntrySet()) {
+            final long key = entry.getLongKey();
+            final Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive((int) key, (int) (key >> 32));
+            if (chunk != null) {
+                activateChunkEntities(chunk, entry.getValue(), tickTiers, currentTick);
+            }
+        }
     }
 
     /**
      * Checks for the activation state of all entities in this chunk.
      *
      * @param chunk Chunk to check for activation
+     * @param players The players whose maximum activation range reaches the chunk
+     * @param tickTiers The tick tiers of the world
+     * @param currentTick The current tick
      */
-    private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
+    private static void activateChunkEntities(Chunk chunk, List<EntityPlayer> players, ActivationTiersCategory tickTiers, long currentTick) {
+        // Find the player closest to covering the whole chunk with its range. Entities whose
+        // activation range is larger than the range that player needs are active without
+        // having to check every player.
+        final double chunkMinX = chunk.x << 4;
+        final double chunkMinZ = chunk.z << 4;
+        EntityPlayer coveringPlayer = null;
+        double coveringRange = Double.MAX_VALUE;
+        double closestDistance = Double.MAX_VALUE;
+        for (EntityPlayer player : players) {
+            final AxisAlignedBB playerBB = player.getEntityBoundingBox();
+            final double range = Math.max(Math.max(chunkMinX + 16 - playerBB.maxX, playerBB.minX - chunkMinX),
+                    Math.max(chunkMinZ + 16 - playerBB.maxZ, playerBB.minZ - chunkMinZ));
+            if (range < coveringRange) {
+                coveringRange = range;
+                coveringPlayer = player;
+            }
+            final double distance = Math.max(Math.max(chunkMinX - playerBB.maxX, playerBB.minX - chunkMinX - 16),
+                    Math.max(chunkMinZ - playerBB.maxZ, playerBB.minZ - chunkMinZ - 16));
+            if (distance < closestDistance) {
+                closestDistance = distance;
+            }
+        }
+        // The entities of the chunk share the tier of its closest point to a player
+        final int tickInterval = tickTiers.getTickInterval(Math.max(0, closestDistance));
+
         for (int i = 0; i < chunk.getEntityLists().length; ++i) {
 
             for (Object o : chunk.getEntityLists()[i]) {
                 Entity entity = (Entity) o;
                 EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
-                long currentTick = SpongeImpl.getServer().getTickCounter();
                 if (type == EntityTypes.UNKNOWN) {
                     ((IModData_Activation) entity).setActivatedTick(currentTick);
+                    ((IModData_Activation) entity).setActivatedTickInterval(1);
                     continue;
                 }
 
@@ -281,53 +331,40 @@ private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
                         spongeEntity.requiresActivationCacheRefresh(false);
                     }
                     // check for entity type overrides
-                    byte activationType = ((IModData_Activation) entity).getActivationType();
-                    int bbActivationRange = ((IModData_Activation) entity).getActivationRange();
-
-                    if (activationType == 5) {
-                        growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 4) {
-                        growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 3) {
-                        growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 2) {
-                        growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else {
-                        growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+                    final int bbActivationRange = spongeEntity.getActivationRange();
+                    final AxisAlignedBB entityBB = entity.getEntityBoundingBox();
+                    if (bbActivationRange > coveringRange && isVerticallyInRange(coveringPlayer.getEntityBoundingBox(), entityBB)) {
+                        spongeEntity.setActivatedTick(currentTick);
+                        spongeEntity.setActivatedTickInterval(tickInterval);
+                        continue;
                     }
-
-                    switch (((IModData_Activation) entity).getActivationType()) {
-                        case 1:
-                            if (monsterBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 2:
-                            if (creatureBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 3:
-                            if (aquaticBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
+                    for (EntityPlayer player : players) {
+                        if (isInRange(player.getEntityBoundingBox(), entityBB, bbActivationRange)) {
+                            spongeEntity.setActivatedTick(currentTick);
+                            spongeEntity.setActivatedTickInterval(tickInterval);
                             break;
-                        case 4:
-                            if (ambientBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 5:
-                        default:
-                            if (miscBB.intersects(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
+                        }
                     }
                 }
             }
         }
     }
 
+    /**
+     * Checks whether the bounding box of an entity intersects the bounding
+     * box of a player grown by the given activation range, the same as
+     * {@link #growBb} followed by {@link AxisAlignedBB#intersects}.
+     */
+    private static boolean isInRange(AxisAlignedBB playerBB, AxisAlignedBB entityBB, int range) {
+        return entityBB.minX < playerBB.maxX + range && entityBB.maxX > playerBB.minX - range
+                && entityBB.minZ < playerBB.maxZ + range && entityBB.maxZ > playerBB.minZ - range
+                && isVerticallyInRange(playerBB, entityBB);
+    }
+
+    private static boolean isVerticallyInRange(AxisAlignedBB playerBB, AxisAlignedBB entityBB) {
+        return entityBB.minY < playerBB.maxY + VERTICAL_RANGE && entityBB.maxY > playerBB.minY - VERTICAL_RANGE;
+    }
+
     /**
      * If an entity is not in range, do some more checks to see if we should
      * give it a shot.
@@ -411,9 +448,18 @@ public static boolean checkIfActive(Entity entity) {
                 }
                 isActive = true;
             }
+        } else if (!spongeEntity.getDefaultActivationState()) {
+            final int tickInterval = spongeEntity.getActivatedTickInterval();
+            if (tickInterval > 1) {
+                // Only tick every interval if not immune, offset by the entity id so the
+                // entities of a tier are spread evenly over the interval.
+                if ((currentTick + entity.getEntityId()) % tickInterval != 0 && !checkEntityImmunities(entity)) {
+                    isActive = false;
+                }
             // Add a little performance juice to active entities. Skip 1/4 if not immune.
-        } else if (!spongeEntity.getDefaultActivationState() && entity.ticksExisted % 4 == 0 && !checkEntityImmunities(entity)) {
-            isActive = false;
+            } else if (entity.ticksExisted % 4 == 0 && !checkEntityImmunities(entity)) {
+                isActive = false;
+            }
         }
 
         if (isActive && !activeChunk.areNeighborsLoaded()) {
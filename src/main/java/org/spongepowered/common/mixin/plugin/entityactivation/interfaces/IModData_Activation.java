@@ -55,4 +55,8 @@ public interface IModData_Activation {
 
     void setSpongeTickRate(int tickRate);
 
+    int getActivatedTickInterval();
+
+    void setActivatedTickInterval(int interval);
+
 }
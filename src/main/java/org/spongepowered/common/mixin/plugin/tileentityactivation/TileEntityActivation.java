@@ -39,6 +39,7 @@
 import org.spongepowered.api.block.tileentity.TileEntityType;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.config.SpongeConfig;
+import org.spongepowered.common.config.category.ActivationTiersCategory;
 import org.spongepowered.common.config.category.TileEntityActivationModCategory;
 import org.spongepowered.common.config.category.TileEntityActivationCategory;
 import org.spongepowered.common.data.type.SpongeTileEntityType;
@@ -126,6 +127,7 @@ public static boolean initializeTileEntityActivationState(TileEntity tileEntity)
     * @param world The world to perform activation checks in
     */
     public static void activateTileEntities(WorldServer world) {
+        final ActivationTiersCategory tickTiers = ((IMixinWorldServer) world).getActiveConfig().getConfig().getTileEntityActivationRange().getTickTiers();
         final PlayerChunkMap playerChunkMap = world.getPlayerChunkMap();
         for (PlayerChunkMapEntry playerChunkMapEntry : playerChunkMap.entries) {
             for (EntityPlayer player : playerChunkMapEntry.players) {
@@ -134,7 +136,7 @@ public static void activateTileEntities(WorldServer world) {
                     continue;
                 }
 
-                activateChunkTileEntities(player, chunk);
+                activateChunkTileEntities(player, chunk, tickTiers);
             }
         }
     }
@@ -143,22 +145,32 @@ public static void activateTileEntities(WorldServer world) {
     /**
      * Checks for the activation state of all tileentities in this chunk.
      *
+     * <p>Tileentities already activated by another player are checked again
+     * if they were put in a tier ticking less often, as this player may be
+     * closer to them.</p>
+     *
      * @param chunk Chunk to check for activation
+     * @param tickTiers The tick tiers of the world
      */
-    private static void activateChunkTileEntities(EntityPlayer player, Chunk chunk) {
+    private static void activateChunkTileEntities(EntityPlayer player, Chunk chunk, ActivationTiersCategory tickTiers) {
         final Vector3i playerPos = VecHelper.toVector3i(player.getPosition());
         final long currentTick = SpongeImpl.getServer().getTickCounter();
         for (Map.Entry<BlockPos, TileEntity> mapEntry : chunk.getTileEntityMap().entrySet()) {
             final TileEntity tileEntity = mapEntry.getValue();
-            if (!(tileEntity instanceof ITickable) || ((IModData_Activation) tileEntity).getActivatedTick() == currentTick) {
+            if (!(tileEntity instanceof ITickable)) {
+                continue;
+            }
+            final boolean activated = ((IModData_Activation) tileEntity).getActivatedTick() == currentTick;
+            if (activated && ((IModData_Activation) tileEntity).getActivatedTickInterval() == 1) {
                 // already activated
                 continue;
             }
 
             final Vector3i tilePos = VecHelper.toVector3i(tileEntity.getPos());
-            if (currentTick > ((IModData_Activation) tileEntity).getActivatedTick()) {
+            if (activated || currentTick > ((IModData_Activation) tileEntity).getActivatedTick()) {
                 if (((IModData_Activation) tileEntity).getDefaultActivationState()) {
                     ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
+                    ((IModData_Activation) tileEntity).setActivatedTickInterval(1);
                     continue;
                 }
 
@@ -172,7 +184,11 @@ private static void activateChunkTileEntities(EntityPlayer player, Chunk chunk)
                 int bbActivationRange = ((IModData_Activation) tileEntity).getActivationRange();
                 int blockDistance = Math.round(tilePos.distance(playerPos));
                 if (blockDistance <= bbActivationRange) {
-                    ((IModData_Activation) tileEntity).setActivatedTick(currentTick);
+                    final int tickInterval = tickTiers.getTickInterval(blockDistance);
+                    if (!activated || tickInterval < spongeEntity.getActivatedTickInterval()) {
+                        spongeEntity.setActivatedTick(currentTick);
+                        spongeEntity.setActivatedTickInterval(tickInterval);
+                    }
                 }
             }
         }
@@ -213,6 +229,13 @@ public static boolean checkIfActive(TileEntity tileEntity) {
             isActive = false;
         }
 
+        // check tick tier, offset by the position so the tileentities of a tier are spread evenly over the interval
+        final int tickInterval = spongeTileEntity.getActivatedTickInterval();
+        if (isActive && tickInterval > 1 && !activeChunk.isPersistedChunk() && spongeTileEntity.getActivatedTick() >= currentTick
+                && Math.floorMod(currentTick + tileEntity.getPos().hashCode(), tickInterval) != 0L) {
+            isActive = false;
+        }
+
         return isActive;
     }
 
@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.tileentityactivation;
+
+import net.minecraft.tileentity.TileEntityFurnace;
+import net.minecraft.tileentity.TileEntityLockable;
+import net.minecraft.util.math.MathHelper;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.SoftOverride;
+
+@Mixin(TileEntityFurnace.class)
+public abstract class MixinTileEntityFurnace_Activation extends TileEntityLockable {
+
+    private MixinTileEntityFurnace_Activation super$;
+
+    @Shadow private int furnaceBurnTime;
+    @Shadow private int cookTime;
+    @Shadow private int totalCookTime;
+
+    @SoftOverride
+    public void inactiveTick() {
+        this.super$.inactiveTick();
+
+        if (this.furnaceBurnTime > 0) {
+            --this.furnaceBurnTime;
+            // A cooking item keeps cooking, but is only smelted once the furnace ticks again
+            if (this.cookTime > 0 && this.cookTime < this.totalCookTime - 1) {
+                ++this.cookTime;
+            }
+        } else if (this.cookTime > 0) {
+            this.cookTime = MathHelper.clamp(this.cookTime - 2, 0, this.totalCookTime);
+        }
+    }
+
+}
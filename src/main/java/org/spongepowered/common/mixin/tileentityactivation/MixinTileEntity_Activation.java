@@ -37,6 +37,7 @@ public class MixinTileEntity_Activation implements IModData_Activation {
     private int activationRange;
     private int ticksExisted;
     private int tickRate = 1;
+    private int activatedTickInterval = 1;
 
     @Override
     public final void incrementSpongeTicksExisted() {
@@ -106,4 +107,14 @@ public void requiresActivationCacheRefresh(boolean flag) {
     public boolean requiresActivationCacheRefresh() {
         return this.refreshCache;
     }
+
+    @Override
+    public int getActivatedTickInterval() {
+        return this.activatedTickInterval;
+    }
+
+    @Override
+    public void setActivatedTickInterval(int interval) {
+        this.activatedTickInterval = interval;
+    }
 }
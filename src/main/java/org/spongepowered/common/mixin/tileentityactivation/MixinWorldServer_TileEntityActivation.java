@@ -27,7 +27,10 @@
 import net.minecraft.util.ITickable;
 import net.minecraft.world.WorldServer;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
@@ -35,15 +38,22 @@
 @Mixin(value = WorldServer.class, priority = 1300)
 public abstract class MixinWorldServer_TileEntityActivation extends MixinWorld {
 
+    // Whether tileentities are skipped when inactive, read once per tick
+    private boolean tileEntityTickTiers;
+
     @Override
     public void spongeTileEntityActivation() {
+        this.tileEntityTickTiers = ((IMixinWorldServer) this).getActiveConfig().getConfig().getTileEntityActivationRange().getTickTiers().isEnabled();
         TileEntityActivation.activateTileEntities((WorldServer) (Object) this);
     }
 
-    // TODO 1.12-pre2 I have no fucking clue what this injection is trying to target
-    // updateTileEntity doesn't exist, and it didn't exist in 1.11 either
-    //@Inject(method = "updateTileEntity", at = @At("HEAD"), cancellable = true, remap = false)
+    // Targets the private updateTileEntity merged by MixinWorldServer, which has a lower priority.
+    // Only applied with tick tiers, tileentities otherwise keep ticking every tick.
+    @Inject(method = "updateTileEntity", at = @At("HEAD"), cancellable = true, remap = false)
     public void onUpdateTileEntityHead(ITickable tile, CallbackInfo ci) {
+        if (!this.tileEntityTickTiers) {
+            return;
+        }
         final net.minecraft.tileentity.TileEntity tileEntity = (net.minecraft.tileentity.TileEntity) tile;
         final boolean canUpdate = TileEntityActivation.checkIfActive(tileEntity);
 
@@ -24,12 +24,10 @@
  */
 package org.spongepowered.common.scheduler;
 
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
-import java.util.Set;
+import java.util.OptionalLong;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -39,12 +37,11 @@ public class AsyncScheduler extends SchedulerBase {
 
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
     // Locking mechanism
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // The configurable thread pooling executor of asynchronous tasks.
+    private final AsyncTaskExecutor executor = new AsyncTaskExecutor(SpongeImpl.getGlobalConfig().getConfig().getScheduler());
 
     AsyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
@@ -56,52 +53,31 @@ public class AsyncScheduler extends SchedulerBase {
     }
 
     ExecutorService getExecutor() {
+        return this.executor.getExecutorService();
+    }
+
+    AsyncTaskExecutor getTaskExecutor() {
         return this.executor;
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (true) {
-            recalibrateMinimumTimeout();
             this.runTick();
         }
     }
 
+    /**
+     * Recalibrates the wait delay for processing tasks before new tasks cause
+     * the scheduler to process pending tasks. The task queue is ordered by
+     * deadline, so only the earliest task needs to be looked at.
+     */
     private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            Set<Task> tasks = this.getScheduledTasks();
+        this.drainIncomingTasks();
+        final OptionalLong deadline = this.getEarliestTimeDeadline();
+        if (deadline.isPresent()) {
+            this.minimumTimeout = Math.max(0, deadline.getAsLong() - System.nanoTime());
+        } else {
             this.minimumTimeout = Long.MAX_VALUE;
-            long now = System.nanoTime();
-            for (Task tmpTask : tasks) {
-                ScheduledTask task = (ScheduledTask) tmpTask;
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.offset == 0 && task.period == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.offset > 0 && task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an offset and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.offset - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.period > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.period - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
         }
     }
 
@@ -109,7 +85,12 @@ private void recalibrateMinimumTimeout() {
     protected void preTick() {
         this.lock.lock();
         try {
-            this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+            // Recalibrating while holding the lock makes sure that no task added
+            // in the meantime can be missed by the wait below.
+            recalibrateMinimumTimeout();
+            if (this.minimumTimeout > 0) {
+                this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+            }
         } catch (InterruptedException ignored) {
             // The taskMap has been modified; there is work to do.
             // Continue on without handling the Exception.
@@ -118,19 +99,14 @@ protected void preTick() {
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
     @Override
     protected void finallyPostTick() {
         this.lock.unlock();
     }
 
     @Override
-    protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
-        this.executor.submit(runnable);
+    protected boolean executeTaskRunnable(ScheduledTask task, Runnable runnable) {
+        return this.executor.execute(task, runnable);
     }
 
     @Override
@@ -0,0 +1,253 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.collect.ImmutableMap;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.SchedulerCategory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The executor running the tasks of the {@link AsyncScheduler}, which keeps
+ * track of the backlog and latency of the tasks of each plugin.
+ */
+public final class AsyncTaskExecutor {
+
+    public enum Mode {
+        CACHED,
+        BOUNDED,
+        VIRTUAL;
+
+        static Mode of(String name) {
+            for (Mode mode : values()) {
+                if (mode.name().equalsIgnoreCase(name)) {
+                    return mode;
+                }
+            }
+            SpongeImpl.getLogger().warn("Unknown async executor mode '{}', falling back to '{}'.", name, CACHED.name().toLowerCase());
+            return CACHED;
+        }
+    }
+
+    private final Mode mode;
+    private final ExecutorService executor;
+    private final int pluginQueueLimit;
+    private final Map<String, PluginTaskStats> stats = new ConcurrentHashMap<>();
+
+    AsyncTaskExecutor(SchedulerCategory config) {
+        this(Mode.of(config.getAsyncExecutorMode()), config.getAsyncMaxThreads(), config.getAsyncPluginQueueLimit());
+    }
+
+    AsyncTaskExecutor(Mode mode, int maxThreads, int pluginQueueLimit) {
+        this.pluginQueueLimit = pluginQueueLimit;
+        if (mode == Mode.VIRTUAL) {
+            final ExecutorService virtual = createVirtualThreadExecutor();
+            if (virtual != null) {
+                this.mode = mode;
+                this.executor = virtual;
+                return;
+            }
+            SpongeImpl.getLogger().warn("Virtual threads aren't supported by this java runtime, falling back to the bounded async executor.");
+            mode = Mode.BOUNDED;
+        }
+        this.mode = mode;
+        if (mode == Mode.BOUNDED) {
+            final int parallelism = maxThreads > 0 ? maxThreads : Runtime.getRuntime().availableProcessors();
+            final AtomicInteger threadCount = new AtomicInteger();
+            this.executor = new ForkJoinPool(parallelism, pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("Sponge Async Scheduler Worker #" + threadCount.incrementAndGet());
+                return thread;
+            }, null, true);
+        } else {
+            this.executor = Executors.newCachedThreadPool();
+        }
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    public Mode getMode() {
+        return this.mode;
+    }
+
+    ExecutorService getExecutorService() {
+        return this.executor;
+    }
+
+    /**
+     * Gets a snapshot of the statistics of every plugin that submitted an
+     * async task, keyed by plugin id.
+     *
+     * @return The statistics per plugin
+     */
+    public Map<String, PluginTaskStats> getPluginStats() {
+        return ImmutableMap.copyOf(this.stats);
+    }
+
+    /**
+     * Attempts to submit the runnable of a task to the executor.
+     *
+     * @param task The task the runnable belongs to
+     * @param runnable The runnable to execute
+     * @return False if the plugin owning the task has reached its queue limit
+     *     or the executor refused the runnable
+     */
+    boolean execute(ScheduledTask task, Runnable runnable) {
+        final PluginTaskStats stats = this.getStats(task.getOwner());
+        if (!stats.tryEnqueue(this.pluginQueueLimit)) {
+            stats.rejected.increment();
+            return false;
+        }
+        final long submitted = System.nanoTime();
+        try {
+            this.executor.execute(() -> {
+                final long start = System.nanoTime();
+                stats.start(start - submitted);
+                try {
+                    runnable.run();
+                } finally {
+                    stats.complete(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            stats.queued.decrementAndGet();
+            stats.rejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private PluginTaskStats getStats(PluginContainer plugin) {
+        PluginTaskStats stats = this.stats.get(plugin.getId());
+        if (stats == null) {
+            stats = this.stats.computeIfAbsent(plugin.getId(), id -> new PluginTaskStats());
+        }
+        return stats;
+    }
+
+    /**
+     * The async task statistics of a single plugin.
+     */
+    public static final class PluginTaskStats {
+
+        final AtomicInteger queued = new AtomicInteger();
+        final AtomicInteger active = new AtomicInteger();
+        final LongAdder completed = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder totalWaitNanos = new LongAdder();
+        final LongAdder totalRunNanos = new LongAdder();
+
+        boolean tryEnqueue(int limit) {
+            if (limit <= 0) {
+                this.queued.incrementAndGet();
+                return true;
+            }
+            int current;
+            do {
+                current = this.queued.get();
+                if (current >= limit) {
+                    return false;
+                }
+            } while (!this.queued.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        void start(long waitNanos) {
+            this.queued.decrementAndGet();
+            this.active.incrementAndGet();
+            this.totalWaitNanos.add(waitNanos);
+        }
+
+        void complete(long runNanos) {
+            this.active.decrementAndGet();
+            this.totalRunNanos.add(runNanos);
+            this.completed.increment();
+        }
+
+        /**
+         * Gets the amount of executions waiting for a thread.
+         *
+         * @return The queue depth
+         */
+        public int getQueued() {
+            return this.queued.get();
+        }
+
+        /**
+         * Gets the amount of threads currently running tasks of the plugin.
+         *
+         * @return The active thread count
+         */
+        public int getActive() {
+            return this.active.get();
+        }
+
+        public long getCompleted() {
+            return this.completed.sum();
+        }
+
+        /**
+         * Gets the amount of executions which were postponed due to the queue
+         * limit of the plugin being reached.
+         *
+         * @return The rejected execution count
+         */
+        public long getRejected() {
+            return this.rejected.sum();
+        }
+
+        /**
+         * Gets the mean time between the submission of an execution and the
+         * moment a thread started running it.
+         *
+         * @return The mean latency in nanoseconds
+         */
+        public long getMeanWaitNanos() {
+            final long completed = this.completed.sum() + this.active.get();
+            return completed == 0 ? 0 : this.totalWaitNanos.sum() / completed;
+        }
+
+        public long getMeanRunNanos() {
+            final long completed = this.completed.sum();
+            return completed == 0 ? 0 : this.totalRunNanos.sum() / completed;
+        }
+    }
+}
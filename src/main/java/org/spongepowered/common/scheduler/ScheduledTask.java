@@ -36,6 +36,8 @@
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -48,12 +50,15 @@ public class ScheduledTask implements Task {
     private final PluginContainer owner;
     private final Consumer<Task> consumer;
     private long timestamp;
+    private long deadline;
     private ScheduledTaskState state;
     private final UUID id;
     private final String name;
     private final TaskSynchronicity syncType;
     private final String stringRepresentation;
     private Timing taskTimer;
+    // The scheduler this task was submitted to, notified when it is cancelled
+    @Nullable private volatile SchedulerBase scheduler;
 
     // Internal Task state. Not for user-service use.
     public enum ScheduledTaskState {
@@ -133,6 +138,10 @@ public boolean cancel() {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        final SchedulerBase scheduler = this.scheduler;
+        if (scheduler != null) {
+            scheduler.cancelTask(this);
+        }
         return success;
     }
 
@@ -178,6 +187,20 @@ void setTimestamp(long timestamp) {
         this.timestamp = timestamp;
     }
 
+    /**
+     * Gets the timestamp this task was queued to be processed at by its
+     * scheduler, this is only updated while the task isn't queued.
+     *
+     * @return The deadline timestamp
+     */
+    long getDeadline() {
+        return this.deadline;
+    }
+
+    void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
     ScheduledTaskState getState() {
         return this.state;
     }
@@ -186,6 +209,10 @@ void setState(ScheduledTaskState state) {
         this.state = state;
     }
 
+    void setScheduler(SchedulerBase scheduler) {
+        this.scheduler = scheduler;
+    }
+
     @Override
     public String toString() {
         return this.stringRepresentation;
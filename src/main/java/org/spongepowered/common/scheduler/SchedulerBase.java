@@ -34,15 +34,32 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.event.tracking.CauseTracker;
 
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 abstract class SchedulerBase {
 
+    private static final Comparator<ScheduledTask> DEADLINE_ORDER = Comparator.comparingLong(ScheduledTask::getDeadline);
+
     // The simple queue of all pending (and running) ScheduledTasks
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // Tasks submitted since the last tick, may be offered from any thread
+    private final Queue<ScheduledTask> incomingTasks = new ConcurrentLinkedQueue<>();
+    // Tasks cancelled since the last tick, still to be taken out of their
+    // deadline queue
+    private final Queue<ScheduledTask> cancelledTasks = new ConcurrentLinkedQueue<>();
+    // Deadline ordered queues, only ever touched by the ticking thread. Tasks
+    // measured in ticks and in real time can't share a queue as their
+    // deadlines aren't comparable.
+    private final PriorityQueue<ScheduledTask> timeQueue = new PriorityQueue<>(DEADLINE_ORDER);
+    private final PriorityQueue<ScheduledTask> tickQueue = new PriorityQueue<>(DEADLINE_ORDER);
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -69,6 +86,17 @@ protected long getTimestamp(ScheduledTask task) {
         return System.nanoTime();
     }
 
+    /**
+     * Gets whether the timestamps of the task, in its current state, are
+     * measured in ticks rather than in real time.
+     *
+     * @param task The task
+     * @return True if the task is measured in ticks
+     */
+    protected boolean isTickBased(ScheduledTask task) {
+        return false;
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
      * next call to {@link #runTick}.
@@ -77,11 +105,26 @@ protected long getTimestamp(ScheduledTask task) {
      */
     protected void addTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
+        task.setScheduler(this);
         this.taskMap.put(task.getUniqueId(), task);
+        this.incomingTasks.offer(task);
     }
 
     /**
-     * Removes the task from the task map.
+     * Removes a cancelled task from the task map right away, it is taken out
+     * of its deadline queue on the next call to {@link #runTick}. May be
+     * called from any thread.
+     *
+     * @param task The cancelled task
+     */
+    void cancelTask(ScheduledTask task) {
+        this.removeTask(task);
+        this.cancelledTasks.offer(task);
+    }
+
+    /**
+     * Removes the task from the task map. The task is expected to already be
+     * polled from its deadline queue.
      *
      * @param task The task to remove
      */
@@ -100,13 +143,59 @@ protected Set<Task> getScheduledTasks() {
     }
 
     /**
-     * Process all tasks in the map.
+     * Moves all newly submitted tasks into their deadline queue and takes the
+     * cancelled tasks out of theirs. Must only be called from the ticking
+     * thread.
+     */
+    protected final void drainIncomingTasks() {
+        ScheduledTask task;
+        while ((task = this.incomingTasks.poll()) != null) {
+            if (task.getState() != ScheduledTask.ScheduledTaskState.CANCELED) {
+                this.enqueue(task);
+            }
+        }
+        while ((task = this.cancelledTasks.poll()) != null) {
+            if (!this.timeQueue.remove(task)) {
+                this.tickQueue.remove(task);
+            }
+        }
+    }
+
+    /**
+     * Gets the real time deadline of the earliest task, without regard to the
+     * tasks measured in ticks. Must only be called from the ticking thread.
+     *
+     * @return The earliest deadline, if any task is queued
+     */
+    protected final OptionalLong getEarliestTimeDeadline() {
+        final ScheduledTask task = this.timeQueue.peek();
+        return task == null ? OptionalLong.empty() : OptionalLong.of(task.getDeadline());
+    }
+
+    private void enqueue(ScheduledTask task) {
+        this.enqueue(task, task.nextExecutionTimestamp());
+    }
+
+    private void enqueue(ScheduledTask task, long deadline) {
+        task.setDeadline(deadline);
+        if (this.isTickBased(task)) {
+            this.tickQueue.offer(task);
+        } else {
+            this.timeQueue.offer(task);
+        }
+    }
+
+    /**
+     * Process all tasks which are due, tasks which are not are left untouched
+     * in their queue.
      */
     protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.drainIncomingTasks();
+            this.processDueTasks(this.timeQueue);
+            this.processDueTasks(this.tickQueue);
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -133,8 +222,21 @@ protected void postTick() {
     protected void finallyPostTick() {
     }
 
+    private void processDueTasks(PriorityQueue<ScheduledTask> queue) {
+        ScheduledTask task;
+        while ((task = queue.peek()) != null) {
+            // Cancelled tasks have no meaningful timestamp, they are simply
+            // dropped as soon as they reach the head of the queue.
+            if (task.getState() != ScheduledTask.ScheduledTaskState.CANCELED && task.getDeadline() - this.getTimestamp(task) > 0) {
+                break;
+            }
+            queue.poll();
+            this.processTask(task);
+        }
+    }
+
     /**
-     * Processes the task.
+     * Processes a task which has reached its deadline.
      *
      * @param task The task to process
      */
@@ -145,29 +247,31 @@ protected void processTask(ScheduledTask task) {
             this.removeTask(task);
             return;
         }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (period) of the repeating task parameter.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.offset;
-        } else if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.period;
-        }
-        // This moment is 'now'
-        long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a period of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        // The previous execution of a repeating task hasn't even started yet,
+        // so skip this period instead of piling up executions.
+        if (task.getState() == ScheduledTask.ScheduledTaskState.SWITCHING) {
             task.setTimestamp(this.getTimestamp(task));
-            startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.period == 0L) {
-                this.removeTask(task);
-            }
+            this.enqueue(task);
+            return;
+        }
+        final ScheduledTask.ScheduledTaskState previousState = task.getState();
+        final long previousTimestamp = task.getTimestamp();
+        task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(this.getTimestamp(task));
+        if (!startTask(task)) {
+            // The task was refused to apply back-pressure, try again later
+            // without losing the execution.
+            task.setState(previousState);
+            task.setTimestamp(previousTimestamp);
+            this.enqueue(task, this.getTimestamp(task) + (this.isTickBased(task) ? 1 : SpongeScheduler.TICK_DURATION_NS));
+            return;
+        }
+        // If task is one time shot, remove it from the map. Repeating tasks
+        // got a reset-timestamp above and are queued for their next period.
+        if (task.period == 0L) {
+            this.removeTask(task);
+        } else {
+            this.enqueue(task);
         }
     }
 
@@ -175,9 +279,10 @@ protected void processTask(ScheduledTask task) {
      * Begin the execution of a task. Exceptions are caught and logged.
      *
      * @param task The task to start
+     * @return False if the task couldn't be started at this time
      */
-    protected void startTask(final ScheduledTask task) {
-        this.executeTaskRunnable(task, () -> {
+    protected boolean startTask(final ScheduledTask task) {
+        return this.executeTaskRunnable(task, () -> {
             task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
             if(!task.isAsynchronous()) {
                 Sponge.getCauseStackManager().pushCause(task.getOwner());
@@ -199,8 +304,10 @@ protected void startTask(final ScheduledTask task) {
     /**
      * Actually run the runnable that will begin the task
      *
+     * @param task The task to run
      * @param runnable The runnable to run
+     * @return False if the runnable was refused and should be retried later
      */
-    protected abstract void executeTaskRunnable(ScheduledTask task, Runnable runnable);
+    protected abstract boolean executeTaskRunnable(ScheduledTask task, Runnable runnable);
 
 }
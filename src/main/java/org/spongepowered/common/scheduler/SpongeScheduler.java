@@ -182,6 +182,10 @@ public void tickSyncScheduler() {
         this.syncScheduler.tick();
     }
 
+    public AsyncTaskExecutor getAsyncTaskExecutor() {
+        return this.asyncScheduler.getTaskExecutor();
+    }
+
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
         return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
     }
@@ -47,15 +47,8 @@ void tick() {
 
     @Override
     protected long getTimestamp(ScheduledTask task) {
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-            // The timestamp is based on the initial offset
-            if (task.delayIsTicks) {
-                return this.counter;
-            }
-            return super.getTimestamp(task);
-        } else if (task.getState().isActive) {
-            // The timestamp is based on the period
-            if (task.intervalIsTicks) {
+        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING || task.getState().isActive) {
+            if (this.isTickBased(task)) {
                 return this.counter;
             }
             return super.getTimestamp(task);
@@ -64,7 +57,17 @@ protected long getTimestamp(ScheduledTask task) {
     }
 
     @Override
-    protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
+    protected boolean isTickBased(ScheduledTask task) {
+        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
+            // The timestamp is based on the initial offset
+            return task.delayIsTicks;
+        }
+        // The timestamp is based on the period
+        return task.intervalIsTicks;
+    }
+
+    @Override
+    protected boolean executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         CauseTracker.getInstance().switchToPhase(PluginPhase.State.SCHEDULED_TASK, PhaseContext.start()
             .source(task)
             .addCaptures()
@@ -72,6 +75,7 @@ protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         );
         runnable.run();
         CauseTracker.getInstance().completePhase(PluginPhase.State.SCHEDULED_TASK);
+        return true;
     }
 
 }
@@ -38,6 +38,7 @@
 import org.spongepowered.api.text.chat.ChatTypes;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.world.ParallelWorldTicker;
 
 import java.util.Optional;
 
@@ -49,7 +50,7 @@ private ChatUtil() {
     public static void sendMessage(ITextComponent component, MessageChannel channel, CommandSource source, boolean isChat) {
         Text raw = SpongeTexts.toText(component);
         MessageFormatter formatter = new MessageEvent.MessageFormatter(raw);
-        final boolean isMainThread = Sponge.isServerAvailable() && Sponge.getServer().isMainThread();
+        final boolean isMainThread = ParallelWorldTicker.isMainOrTickingWorld();
         Cause cause = isMainThread ? Sponge.getCauseStackManager().getCurrentCause() : Cause.of(EventContext.empty(), source);
         MessageChannelEvent event;
         if (isChat) {
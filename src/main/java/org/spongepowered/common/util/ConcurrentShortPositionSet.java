@@ -0,0 +1,121 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free set of block positions within a chunk, packed into a short as
+ * 4 bits of x, 8 bits of y and 4 bits of z (from the lowest to the highest
+ * bits). Each position is a single bit, the bits of a 16 block high section
+ * are only allocated once a position in that section is added.
+ */
+public final class ConcurrentShortPositionSet {
+
+    private static final int SECTION_COUNT = 16;
+    private static final int LONGS_PER_SECTION = 4096 / Long.SIZE;
+
+    private final AtomicReferenceArray<AtomicLongArray> sections = new AtomicReferenceArray<>(SECTION_COUNT);
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Adds the position to the set.
+     *
+     * @param pos The packed position
+     * @return False if the position was already present
+     */
+    public boolean add(short pos) {
+        final int section = section(pos);
+        AtomicLongArray bits = this.sections.get(section);
+        if (bits == null) {
+            this.sections.compareAndSet(section, null, new AtomicLongArray(LONGS_PER_SECTION));
+            bits = this.sections.get(section);
+        }
+        final int index = index(pos);
+        final long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(index >>> 6);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(index >>> 6, current, current | mask));
+        this.size.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Removes the position from the set.
+     *
+     * @param pos The packed position
+     * @return False if the position wasn't present
+     */
+    public boolean remove(short pos) {
+        final AtomicLongArray bits = this.sections.get(section(pos));
+        if (bits == null) {
+            return false;
+        }
+        final int index = index(pos);
+        final long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(index >>> 6);
+            if ((current & mask) == 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(index >>> 6, current, current & ~mask));
+        this.size.decrementAndGet();
+        return true;
+    }
+
+    public boolean contains(short pos) {
+        final AtomicLongArray bits = this.sections.get(section(pos));
+        if (bits == null) {
+            return false;
+        }
+        final int index = index(pos);
+        return (bits.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    public int size() {
+        return this.size.get();
+    }
+
+    public boolean isEmpty() {
+        return this.size.get() == 0;
+    }
+
+    private static int section(short pos) {
+        // The upper 4 bits of the y coordinate
+        return (pos >>> 8) & 0xF;
+    }
+
+    private static int index(short pos) {
+        // x, the lower 4 bits of y and z within the section
+        return (pos & 0xFF) | (((pos >>> 12) & 0xF) << 8);
+    }
+}
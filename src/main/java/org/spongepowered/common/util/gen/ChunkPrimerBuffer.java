@@ -52,6 +52,7 @@
 public final class ChunkPrimerBuffer extends AbstractBlockBuffer implements MutableBlockVolume {
 
     private final ChunkPrimer chunkPrimer;
+    private int blocksSet;
 
     public ChunkPrimerBuffer(ChunkPrimer chunkPrimer, int chunkX, int chunkZ) {
         super(getBlockStart(chunkX, chunkZ), SpongeChunkLayout.CHUNK_SIZE);
@@ -79,9 +80,19 @@ public BlockState getBlock(int x, int y, int z) {
     public boolean setBlock(int x, int y, int z, BlockState block) {
         checkRange(x, y, z);
         this.chunkPrimer.setBlockState(x & 0xf, y, z & 0xF, (IBlockState) block);
+        this.blocksSet++;
         return true;
     }
 
+    /**
+     * Gets the amount of blocks set through this buffer so far.
+     *
+     * @return The amount of blocks set
+     */
+    public int getBlocksSet() {
+        return this.blocksSet;
+    }
+
     @Override
     public MutableBlockVolume getBlockView(Vector3i newMin, Vector3i newMax) {
         checkRange(newMin.getX(), newMin.getY(), newMin.getZ());
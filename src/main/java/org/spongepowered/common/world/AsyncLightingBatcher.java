@@ -0,0 +1,179 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the async lighting work of the chunks ticked by a world over a
+ * tick, and submits it to the lighting executor in batches of neighbouring
+ * chunks. Every batch is processed by a single worker, so chunks sharing
+ * borders are relit one after another by the same thread instead of racing
+ * each other on different threads, and their neighbour data stays in cache.
+ *
+ * <p>All work of a chunk queued during a tick is kept together and the
+ * chunk is submitted once. Batches never span more than one region of
+ * chunks.</p>
+ *
+ * <p>Work may only be submitted and flushed from the main thread.</p>
+ */
+public final class AsyncLightingBatcher {
+
+    // Chunks are grouped in regions of 4x4 chunks
+    private static final int REGION_SHIFT = 2;
+    private static final Comparator<PendingChunk> REGION_ORDER = Comparator.<PendingChunk>comparingInt(chunk -> chunk.chunkX >> REGION_SHIFT)
+            .thenComparingInt(chunk -> chunk.chunkZ >> REGION_SHIFT)
+            .thenComparingInt(chunk -> chunk.chunkZ)
+            .thenComparingInt(chunk -> chunk.chunkX);
+
+    private final ExecutorService executor;
+    private final int batchSize;
+    // Insertion ordered, so the work of each chunk keeps its submission order
+    private final Long2ObjectLinkedOpenHashMap<PendingChunk> pending = new Long2ObjectLinkedOpenHashMap<>();
+    private int pendingTasks;
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public AsyncLightingBatcher(ExecutorService executor, int batchSize) {
+        this.executor = executor;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Queues lighting work of the chunk at the given position, to be
+     * submitted with the next {@link #flush()}.
+     *
+     * @param chunkX The chunk x position
+     * @param chunkZ The chunk z position
+     * @param work The lighting work
+     */
+    public void submit(int chunkX, int chunkZ, Runnable work) {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        PendingChunk chunk = this.pending.get(key);
+        if (chunk == null) {
+            chunk = new PendingChunk(chunkX, chunkZ);
+            this.pending.put(key, chunk);
+        }
+        chunk.work.add(work);
+        this.pendingTasks++;
+    }
+
+    /**
+     * Submits all work queued since the last flush to the lighting executor.
+     */
+    public void flush() {
+        if (this.pending.isEmpty()) {
+            return;
+        }
+        if (this.executor.isShutdown()) {
+            this.clearPending();
+            return;
+        }
+        final List<PendingChunk> chunks = new ArrayList<>(this.pending.values());
+        this.clearPending();
+        chunks.sort(REGION_ORDER);
+        final int size = chunks.size();
+        int start = 0;
+        while (start < size) {
+            final PendingChunk first = chunks.get(start);
+            final int regionX = first.chunkX >> REGION_SHIFT;
+            final int regionZ = first.chunkZ >> REGION_SHIFT;
+            int end = start + 1;
+            while (end < size && end - start < this.batchSize) {
+                final PendingChunk next = chunks.get(end);
+                if (next.chunkX >> REGION_SHIFT != regionX || next.chunkZ >> REGION_SHIFT != regionZ) {
+                    break;
+                }
+                end++;
+            }
+            this.submitBatch(chunks.subList(start, end));
+            start = end;
+        }
+    }
+
+    private void submitBatch(List<PendingChunk> chunks) {
+        final List<Runnable> batch = new ArrayList<>();
+        for (PendingChunk chunk : chunks) {
+            batch.addAll(chunk.work);
+        }
+        this.queuedTasks.addAndGet(batch.size());
+        this.batches.increment();
+        this.executor.execute(() -> {
+            for (Runnable work : batch) {
+                try {
+                    work.run();
+                } finally {
+                    this.queuedTasks.decrementAndGet();
+                    this.completed.increment();
+                }
+            }
+        });
+    }
+
+    private void clearPending() {
+        this.pending.clear();
+        this.pendingTasks = 0;
+    }
+
+    /**
+     * Gets the amount of chunk lighting tasks, such as a gap recheck or the
+     * initial lighting of a chunk, which were queued or submitted but haven't
+     * been processed yet. A single task may cover many light updates.
+     *
+     * @return The chunk lighting task backlog
+     */
+    public int getChunkTaskBacklog() {
+        return this.queuedTasks.get() + this.pendingTasks;
+    }
+
+    public long getCompletedCount() {
+        return this.completed.sum();
+    }
+
+    public long getBatchCount() {
+        return this.batches.sum();
+    }
+
+    private static final class PendingChunk {
+
+        final int chunkX;
+        final int chunkZ;
+        final List<Runnable> work = new ArrayList<>(2);
+
+        PendingChunk(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import co.aikar.timings.SpongeTimings;
+import com.google.common.collect.MapMaker;
+import net.minecraft.crash.CrashReport;
+import net.minecraft.util.ReportedException;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.Server;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.SpongeCauseStackManager;
+import org.spongepowered.common.event.tracking.CauseTracker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Ticks the worlds of the server in parallel on a fork-join pool.
+ *
+ * <p>Only the work local to a world, its {@link WorldServer#tick()} and
+ * {@link WorldServer#updateEntities()}, is run on the pool. The server waits
+ * for every world to finish before running the work deferred by the worlds
+ * through {@link #runAfterWorldTicks(Runnable)}, and then continues its tick
+ * as usual: the entity trackers, player list and network are still ticked on
+ * the main thread, the worlds ticked in parallel simply being skipped by the
+ * regular world loop.</p>
+ *
+ * <p>Every world gets its own {@link CauseTracker} and cause stack, bound to
+ * the {@link WorldTickThread} ticking it.</p>
+ */
+public final class ParallelWorldTicker {
+
+    private static final Map<WorldServer, WorldTickState> STATES = new MapMaker().weakKeys().makeMap();
+    // Worlds ticked in parallel this tick, only accessed by the main thread
+    private static final Set<WorldServer> TICKED = Collections.newSetFromMap(new IdentityHashMap<>());
+    private static final Queue<Runnable> DEFERRED = new ConcurrentLinkedQueue<>();
+
+    // Fixed at startup, the mixins this mode relies on are only applied if it was enabled then
+    private static final boolean ENABLED = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelWorldTicking();
+
+    private static volatile ForkJoinPool pool;
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Gets whether the current thread is ticking a world in parallel with
+     * other worlds.
+     *
+     * @return True if a world is ticked by the current thread
+     */
+    public static boolean isTickingWorld() {
+        final Thread thread = Thread.currentThread();
+        return thread instanceof WorldTickThread && ((WorldTickThread) thread).getCauseTracker() != null;
+    }
+
+    /**
+     * Gets whether the current thread is ticking the given world in parallel
+     * with other worlds.
+     *
+     * @param world The world
+     * @return True if the world is ticked by the current thread
+     */
+    public static boolean isTickingWorld(net.minecraft.world.World world) {
+        final Thread thread = Thread.currentThread();
+        return thread instanceof WorldTickThread && ((WorldTickThread) thread).getWorld() == world;
+    }
+
+    /**
+     * Gets whether the current thread is the main thread or is ticking a
+     * world in parallel, either of which has its own cause stack and may
+     * touch the world it ticks. {@link Server#isMainThread()} only holds for
+     * the main thread itself.
+     *
+     * @return True if the current thread is the main or a world tick thread
+     */
+    public static boolean isMainOrTickingWorld() {
+        return isTickingWorld() || Sponge.isServerAvailable() && Sponge.getServer().isMainThread();
+    }
+
+    /**
+     * Defers work spanning multiple worlds, such as moving an entity to
+     * another dimension, until all worlds finished their parallel tick. The
+     * work is then run on the main thread.
+     *
+     * @param task The work to defer
+     */
+    public static void runAfterWorldTicks(Runnable task) {
+        DEFERRED.add(task);
+    }
+
+    /**
+     * Ticks the given worlds in parallel and waits for all of them to
+     * finish, then runs the deferred work.
+     *
+     * @param worlds The worlds of the server
+     * @param allowNether Whether worlds other than the overworld are ticked
+     */
+    public static void tickWorlds(WorldServer[] worlds, boolean allowNether) {
+        TICKED.clear();
+        if (worlds.length < 2 || !allowNether) {
+            return;
+        }
+        final ForkJoinPool pool = getPool();
+        // Timings can't be recorded by the world tick threads, so only the time spent ticking all worlds is recorded
+        SpongeTimings.parallelWorldTickTimer.startTimingIfSync();
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>(worlds.length);
+        for (WorldServer world : worlds) {
+            final WorldTickState state = STATES.computeIfAbsent(world, WorldTickState::new);
+            tasks.add(pool.submit(() -> tickWorld(world, state)));
+            TICKED.add(world);
+        }
+        // The barrier, no world may still be ticking once the server continues its tick
+        Throwable failure = null;
+        for (ForkJoinTask<?> task : tasks) {
+            try {
+                task.join();
+            } catch (RuntimeException | Error e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        SpongeTimings.parallelWorldTickTimer.stopTimingIfSync();
+        if (failure != null) {
+            TICKED.clear();
+            DEFERRED.clear();
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw (RuntimeException) failure;
+        }
+        Runnable task;
+        while ((task = DEFERRED.poll()) != null) {
+            task.run();
+        }
+    }
+
+    /**
+     * Gets whether the given world still has to be ticked by the regular
+     * world loop of the server.
+     *
+     * @param world The world
+     * @return True if the world wasn't ticked in parallel
+     */
+    public static boolean shouldTick(WorldServer world) {
+        return !TICKED.contains(world);
+    }
+
+    /**
+     * Gets whether the entities of the given world still have to be updated
+     * by the regular world loop of the server. This is the last part of the
+     * world tick, the world is no longer considered ticked in parallel
+     * afterwards.
+     *
+     * @param world The world
+     * @return True if the world wasn't ticked in parallel
+     */
+    public static boolean shouldUpdateEntities(WorldServer world) {
+        return !TICKED.remove(world);
+    }
+
+    private static void tickWorld(WorldServer world, WorldTickState state) {
+        final WorldTickThread thread = (WorldTickThread) Thread.currentThread();
+        thread.bind(world, state.causeTracker, state.causeStackManager);
+        try {
+            try {
+                world.tick();
+            } catch (Throwable throwable) {
+                final CrashReport crashReport = CrashReport.makeCrashReport(throwable, "Exception ticking world");
+                world.addWorldInfoToCrashReport(crashReport);
+                throw new ReportedException(crashReport);
+            }
+            try {
+                world.updateEntities();
+            } catch (Throwable throwable) {
+                final CrashReport crashReport = CrashReport.makeCrashReport(throwable, "Exception ticking world entities");
+                world.addWorldInfoToCrashReport(crashReport);
+                throw new ReportedException(crashReport);
+            }
+        } finally {
+            thread.unbind();
+        }
+    }
+
+    private static ForkJoinPool getPool() {
+        ForkJoinPool pool = ParallelWorldTicker.pool;
+        if (pool == null) {
+            final int threads = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getParallelWorldTickingCategory().getNumThreads();
+            ParallelWorldTicker.pool = pool = new ForkJoinPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                    WorldTickThread::new, null, false);
+        }
+        return pool;
+    }
+
+    private static final class WorldTickState {
+
+        final CauseTracker causeTracker;
+        final SpongeCauseStackManager causeStackManager;
+
+        WorldTickState(WorldServer world) {
+            this.causeTracker = CauseTracker.createWorldTracker(world);
+            this.causeStackManager = SpongeCauseStackManager.createWorldStack();
+        }
+    }
+
+    private ParallelWorldTicker() {
+    }
+}
@@ -31,6 +31,7 @@
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.collect.MapMaker;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
@@ -103,6 +104,12 @@
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -122,6 +129,13 @@ public final class WorldManager {
     private static final BitSet dimensionBits = new BitSet(Long.SIZE << 4);
     private static final Map<WorldServer, WorldServer> weakWorldByWorld = new MapMaker().weakKeys().weakValues().concurrencyLevel(1).makeMap();
     private static final Queue<WorldServer> unloadQueue = new ArrayDeque<>();
+    // Disk work of asynchronous world loads, unloads and saves, run one after another
+    private static final ExecutorService worldIoExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge - World IO Thread").setDaemon(true).build());
+    // State changes of asynchronous world loads, unloads and saves, applied by the main thread within the tick budget
+    private static final Queue<Runnable> lifecycleQueue = new ConcurrentLinkedQueue<>();
+    private static final Executor mainThreadExecutor = lifecycleQueue::add;
+    private static final Map<String, CompletableFuture<Optional<WorldServer>>> pendingWorldLoads = new ConcurrentHashMap<>();
     private static final Comparator<WorldServer>
             WORLD_SERVER_COMPARATOR =
             (world1, world2) -> {
@@ -452,11 +466,35 @@ public static boolean saveWorldProperties(WorldProperties properties) {
     }
 
     public static void unloadQueuedWorlds() {
-        while (unloadQueue.peek() != null) {
-            unloadWorld(unloadQueue.poll(), true);
+        // Worlds left over once the budget is used up are unloaded during the next ticks
+        final long endTime = System.nanoTime() + getLifecycleTickBudget();
+        WorldServer worldServer;
+        while ((worldServer = unloadQueue.poll()) != null) {
+            unloadWorldAsync(worldServer, true);
+            if (System.nanoTime() >= endTime) {
+                break;
+            }
         }
+    }
 
-        unloadQueue.clear();
+    /**
+     * Applies the state changes of asynchronous world loads, unloads and
+     * saves whose disk work is done, until the tick budget is used up. Must
+     * be called from the main thread once per tick.
+     */
+    public static void processLifecycleQueue() {
+        final long endTime = System.nanoTime() + getLifecycleTickBudget();
+        Runnable task;
+        while ((task = lifecycleQueue.poll()) != null) {
+            task.run();
+            if (System.nanoTime() >= endTime) {
+                break;
+            }
+        }
+    }
+
+    private static long getLifecycleTickBudget() {
+        return TimeUnit.MILLISECONDS.toNanos(SpongeImpl.getGlobalConfig().getConfig().getWorld().getLifecycleTickBudget());
     }
 
     public static void queueWorldToUnload(WorldServer worldServer) {
@@ -466,24 +504,53 @@ public static void queueWorldToUnload(WorldServer worldServer) {
 
     // TODO Result
     public static boolean unloadWorld(WorldServer worldServer, boolean checkConfig) {
+        return unloadWorld(worldServer, checkConfig, false) != null;
+    }
+
+    /**
+     * Unloads a world, saving its chunks on the main thread but waiting for
+     * them to be written to disk on the world I/O thread. Must be called from
+     * the main thread.
+     *
+     * @param worldServer The world to unload
+     * @param checkConfig Whether worlds keeping their spawn loaded are kept
+     * @return A future completed on the main thread once the world is written
+     *     to disk, with whether the world was unloaded
+     */
+    public static CompletableFuture<Boolean> unloadWorldAsync(WorldServer worldServer, boolean checkConfig) {
+        final CompletableFuture<Void> flush = unloadWorld(worldServer, checkConfig, true);
+        if (flush == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return flush.thenApplyAsync(v -> true, mainThreadExecutor);
+    }
+
+    /**
+     * Unloads a world.
+     *
+     * @return The future of the world being written to disk, or null if the
+     *     world wasn't unloaded
+     */
+    @Nullable
+    private static CompletableFuture<Void> unloadWorld(WorldServer worldServer, boolean checkConfig, boolean async) {
         checkNotNull(worldServer);
         final MinecraftServer server = SpongeImpl.getServer();
 
         // Likely leaked, don't want to drop leaked world data
         if (!worldByDimensionId.containsValue(worldServer)) {
-            return false;
+            return null;
         }
 
         // Vanilla sometimes doesn't remove player entities from world first
         if (server.isServerRunning()) {
             if (!worldServer.playerEntities.isEmpty()) {
-                return false;
+                return null;
             }
 
             // We only check config if base game wants to unload world. If mods/plugins say unload, we unload
             if (checkConfig) {
                 if (((WorldProperties) worldServer.getWorldInfo()).doesKeepSpawnLoaded()) {
-                    return false;
+                    return null;
                 }
             }
         }
@@ -498,17 +565,26 @@ public static boolean unloadWorld(WorldServer worldServer, boolean checkConfig)
             if (CauseTracker.ENABLED) {
                 CauseTracker.getInstance().completePhase(GeneralPhase.State.WORLD_UNLOAD);
             }
-            return false;
+            return null;
         }
 
         final IMixinWorldServer mixinWorldServer = (IMixinWorldServer) worldServer;
         final int dimensionId = mixinWorldServer.getDimensionId();
 
+        CompletableFuture<Void> flush = CompletableFuture.completedFuture(null);
         try {
             // Don't save if server is stopping to avoid duplicate saving.
             if (server.isServerRunning()) {
-                saveWorld(worldServer, true);
-                mixinWorldServer.getActiveConfig().save();
+                if (async) {
+                    saveWorld(worldServer, false);
+                    flush = CompletableFuture.runAsync(() -> {
+                        worldServer.flush();
+                        mixinWorldServer.getActiveConfig().save();
+                    }, worldIoExecutor);
+                } else {
+                    saveWorld(worldServer, true);
+                    mixinWorldServer.getActiveConfig().save();
+                }
             }
         } catch (MinecraftException e) {
             e.printStackTrace();
@@ -527,7 +603,7 @@ public static boolean unloadWorld(WorldServer worldServer, boolean checkConfig)
         if (CauseTracker.ENABLED) {
             CauseTracker.getInstance().completePhase(GeneralPhase.State.WORLD_UNLOAD);
         }
-        return true;
+        return flush;
     }
 
     public static void saveWorld(WorldServer worldServer, boolean flush) throws MinecraftException {
@@ -537,6 +613,27 @@ public static void saveWorld(WorldServer worldServer, boolean flush) throws Mine
         }
     }
 
+    /**
+     * Saves a world, saving its chunks on the main thread but waiting for
+     * them to be written to disk on the world I/O thread. Must be called from
+     * the main thread.
+     *
+     * @param worldServer The world to save
+     * @return A future completed on the main thread once the world is written
+     *     to disk
+     */
+    public static CompletableFuture<Void> saveWorldAsync(WorldServer worldServer) {
+        try {
+            saveWorld(worldServer, false);
+        } catch (MinecraftException e) {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        return CompletableFuture.runAsync(worldServer::flush, worldIoExecutor)
+                .thenRunAsync(() -> { }, mainThreadExecutor);
+    }
+
     public static Optional<WorldServer> loadWorld(UUID uuid) {
         checkNotNull(uuid);
         // If someone tries to load loaded world, return it
@@ -567,21 +664,107 @@ private static Optional<WorldServer> loadWorld(String worldName, @Nullable ISave
         checkNotNull(worldName);
         final Path currentSavesDir = WorldManager.getCurrentSavesDirectory().orElseThrow(() -> new IllegalStateException("Attempt "
                 + "made to load world too early!"));
-        final MinecraftServer server = SpongeImpl.getServer();
         final Optional<WorldServer> optExistingWorldServer = getWorld(worldName);
         if (optExistingWorldServer.isPresent()) {
             return optExistingWorldServer;
         }
 
-        if (!server.getAllowNether()) {
-            SpongeImpl.getLogger().error("Unable to load world [{}]. Multi-world is disabled via [allow-nether] in [server.properties].", worldName);
+        if (!canLoadWorld(worldName)) {
             return Optional.empty();
         }
 
+        final PendingWorldLoad load = readWorld(currentSavesDir, worldName, saveHandler, properties);
+        if (load == null) {
+            return Optional.empty();
+        }
+        return createLoadedWorld(load);
+    }
+
+    public static CompletableFuture<Optional<WorldServer>> loadWorldAsync(UUID uuid) {
+        checkNotNull(uuid);
+        final Optional<org.spongepowered.api.world.World> optWorld = Sponge.getServer().getWorld(uuid);
+        if (optWorld.isPresent()) {
+            return CompletableFuture.completedFuture(Optional.of((WorldServer) optWorld.get()));
+        }
+        final String worldFolder = worldUuidByFolderName.inverse().get(uuid);
+        if (worldFolder == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return loadWorldAsync(worldFolder, null);
+    }
+
+    public static CompletableFuture<Optional<WorldServer>> loadWorldAsync(String worldName) {
+        checkNotNull(worldName);
+        return loadWorldAsync(worldName, null);
+    }
+
+    public static CompletableFuture<Optional<WorldServer>> loadWorldAsync(WorldProperties properties) {
+        checkNotNull(properties);
+        return loadWorldAsync(properties.getWorldName(), properties);
+    }
+
+    /**
+     * Loads a world, reading its folder, session lock and properties on the
+     * world I/O thread. The world itself is created and its spawn area
+     * prepared on the main thread, as part of the lifecycle work of a tick.
+     * Must be called from the main thread.
+     *
+     * @return A future completed on the main thread with the loaded world
+     */
+    private static CompletableFuture<Optional<WorldServer>> loadWorldAsync(String worldName, @Nullable WorldProperties properties) {
+        final Path currentSavesDir = WorldManager.getCurrentSavesDirectory().orElseThrow(() -> new IllegalStateException("Attempt "
+                + "made to load world too early!"));
+        final Optional<WorldServer> optExistingWorldServer = getWorld(worldName);
+        if (optExistingWorldServer.isPresent()) {
+            return CompletableFuture.completedFuture(optExistingWorldServer);
+        }
+
+        final CompletableFuture<Optional<WorldServer>> pendingLoad = pendingWorldLoads.get(worldName);
+        if (pendingLoad != null) {
+            return pendingLoad;
+        }
+
+        if (!canLoadWorld(worldName)) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        final CompletableFuture<Optional<WorldServer>> future = CompletableFuture
+                .supplyAsync(() -> readWorld(currentSavesDir, worldName, null, properties), worldIoExecutor)
+                .thenApplyAsync(load -> {
+                    // Loaded synchronously in the meantime
+                    final Optional<WorldServer> optWorldServer = getWorld(worldName);
+                    if (optWorldServer.isPresent() || load == null) {
+                        return optWorldServer;
+                    }
+                    return createLoadedWorld(load);
+                }, mainThreadExecutor);
+        pendingWorldLoads.put(worldName, future);
+        future.whenComplete((optWorldServer, throwable) -> pendingWorldLoads.remove(worldName));
+        return future;
+    }
+
+    private static boolean canLoadWorld(String worldName) {
+        if (!SpongeImpl.getServer().getAllowNether()) {
+            SpongeImpl.getLogger().error("Unable to load world [{}]. Multi-world is disabled via [allow-nether] in [server.properties].", worldName);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Does the disk work of loading a world, which may be done off the main
+     * thread: locates its folder, takes the session lock and reads its
+     * properties.
+     *
+     * @return The world to load, or null if it can't be loaded
+     */
+    @Nullable
+    private static PendingWorldLoad readWorld(Path currentSavesDir, String worldName, @Nullable ISaveHandler saveHandler,
+            @Nullable WorldProperties properties) {
         final Path worldFolder = currentSavesDir.resolve(worldName);
         if (!Files.isDirectory(worldFolder)) {
             SpongeImpl.getLogger().error("Unable to load world [{}]. We cannot find its folder under [{}].", worldFolder, currentSavesDir);
-            return Optional.empty();
+            return null;
         }
 
         if (saveHandler == null) {
@@ -595,10 +778,21 @@ private static Optional<WorldServer> loadWorld(String worldName, @Nullable ISave
             // We tried :'(
             if (properties == null) {
                 SpongeImpl.getLogger().error("Unable to load world [{}]. No world properties was found!", worldName);
-                return Optional.empty();
+                return null;
             }
+            // Only read here for properties not registered yet, registered ones already have their unique id
+            setUuidOnProperties(currentSavesDir, properties);
         }
+        return new PendingWorldLoad(worldFolder, saveHandler, properties);
+    }
 
+    /**
+     * Registers and creates a world whose disk work is done, on the main
+     * thread.
+     */
+    private static Optional<WorldServer> createLoadedWorld(PendingWorldLoad load) {
+        final WorldProperties properties = load.properties;
+        final String worldName = properties.getWorldName();
         if (((IMixinWorldInfo) properties).getDimensionId() == null || ((IMixinWorldInfo) properties).getDimensionId() == Integer.MIN_VALUE) {
             ((IMixinWorldInfo) properties).setDimensionId(getNextFreeDimensionId());
         }
@@ -616,16 +810,29 @@ private static Optional<WorldServer> loadWorld(String worldName, @Nullable ISave
 
         final int dimensionId = ((IMixinWorldInfo) properties).getDimensionId();
         registerDimension(dimensionId, (DimensionType) (Object) properties.getDimensionType());
-        registerDimensionPath(dimensionId, worldFolder);
+        registerDimensionPath(dimensionId, load.worldFolder);
         SpongeImpl.getLogger().info("Loading world [{}] ({})", properties.getWorldName(), getDimensionType
                 (dimensionId).get().getName());
 
-        final WorldServer worldServer = createWorldFromProperties(dimensionId, saveHandler, (WorldInfo) properties, new WorldSettings((WorldInfo)
+        final WorldServer worldServer = createWorldFromProperties(dimensionId, load.saveHandler, (WorldInfo) properties, new WorldSettings((WorldInfo)
                         properties));
 
         return Optional.of(worldServer);
     }
 
+    private static final class PendingWorldLoad {
+
+        final Path worldFolder;
+        final ISaveHandler saveHandler;
+        final WorldProperties properties;
+
+        PendingWorldLoad(Path worldFolder, ISaveHandler saveHandler, WorldProperties properties) {
+            this.worldFolder = worldFolder;
+            this.saveHandler = saveHandler;
+            this.properties = properties;
+        }
+    }
+
     public static void loadAllWorlds(String worldName, long defaultSeed, WorldType defaultWorldType, String generatorOptions) {
         final MinecraftServer server = SpongeImpl.getServer();
 
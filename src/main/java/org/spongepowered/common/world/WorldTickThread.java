@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.event.SpongeCauseStackManager;
+import org.spongepowered.common.event.tracking.CauseTracker;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import javax.annotation.Nullable;
+
+/**
+ * A thread of the pool ticking worlds in parallel. While it ticks a world,
+ * the thread is bound to the {@link CauseTracker} and cause stack of that
+ * world, which are returned in place of the main thread's ones to any code
+ * running on it.
+ */
+public final class WorldTickThread extends ForkJoinWorkerThread {
+
+    @Nullable private WorldServer world;
+    @Nullable private CauseTracker causeTracker;
+    @Nullable private SpongeCauseStackManager causeStackManager;
+
+    WorldTickThread(ForkJoinPool pool) {
+        super(pool);
+        setName("Sponge - World Tick Thread #" + getPoolIndex());
+    }
+
+    /**
+     * Gets the world currently ticked by this thread.
+     *
+     * @return The world, or null if no world is ticked
+     */
+    @Nullable
+    public WorldServer getWorld() {
+        return this.world;
+    }
+
+    /**
+     * Gets the cause tracker of the world currently ticked by this thread.
+     *
+     * @return The cause tracker, or null if no world is ticked
+     */
+    @Nullable
+    public CauseTracker getCauseTracker() {
+        return this.causeTracker;
+    }
+
+    /**
+     * Gets the cause stack of the world currently ticked by this thread.
+     *
+     * @return The cause stack, or null if no world is ticked
+     */
+    @Nullable
+    public SpongeCauseStackManager getCauseStackManager() {
+        return this.causeStackManager;
+    }
+
+    void bind(WorldServer world, CauseTracker causeTracker, SpongeCauseStackManager causeStackManager) {
+        this.world = world;
+        this.causeTracker = causeTracker;
+        this.causeStackManager = causeStackManager;
+    }
+
+    void unbind() {
+        this.world = null;
+        this.causeTracker = null;
+        this.causeStackManager = null;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gen;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.api.world.extent.ImmutableBiomeVolume;
+
+import javax.annotation.Nullable;
+
+/**
+ * A bounded cache of the biomes generated for chunks, evicting the least
+ * recently used chunk once full. Safe to use from several threads.
+ */
+public final class BiomeVolumeCache {
+
+    private final Long2ObjectLinkedOpenHashMap<ImmutableBiomeVolume> biomes;
+    private final int maxSize;
+
+    public BiomeVolumeCache(int maxSize) {
+        this.biomes = new Long2ObjectLinkedOpenHashMap<>(maxSize + 1);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the cached biomes of the given chunk.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The biomes, or null if not cached
+     */
+    @Nullable
+    public ImmutableBiomeVolume get(int chunkX, int chunkZ) {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        synchronized (this.biomes) {
+            return this.biomes.getAndMoveToLast(key);
+        }
+    }
+
+    public void put(int chunkX, int chunkZ, ImmutableBiomeVolume volume) {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        synchronized (this.biomes) {
+            this.biomes.putAndMoveToLast(key, volume);
+            if (this.biomes.size() > this.maxSize) {
+                this.biomes.removeFirst();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (this.biomes) {
+            this.biomes.clear();
+        }
+    }
+}
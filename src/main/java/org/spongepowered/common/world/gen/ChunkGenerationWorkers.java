@@ -0,0 +1,75 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gen;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.world.gen.IChunkGenerator;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.gen.IConcurrentChunkGenerator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Holds the shared thread pool used to generate chunk terrain off the main
+ * thread.
+ */
+public final class ChunkGenerationWorkers {
+
+    private static volatile ExecutorService executor;
+
+    public static ExecutorService getExecutor() {
+        ExecutorService executor = ChunkGenerationWorkers.executor;
+        if (executor == null) {
+            synchronized (ChunkGenerationWorkers.class) {
+                executor = ChunkGenerationWorkers.executor;
+                if (executor == null) {
+                    ChunkGenerationWorkers.executor = executor = Executors.newFixedThreadPool(getThreadCount(),
+                            new ThreadFactoryBuilder().setNameFormat("Sponge - Chunk Generation Worker #%d").setDaemon(true).build());
+                }
+            }
+        }
+        return executor;
+    }
+
+    public static int getThreadCount() {
+        final int threads = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getWorldGenerationCategory().getWorkerThreads();
+        return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    /**
+     * Gets whether the terrain of the given generator may be generated on the
+     * worker threads.
+     *
+     * @param generator The chunk generator
+     * @return True if terrain generation is thread safe
+     */
+    public static boolean canGenerateConcurrently(IChunkGenerator generator) {
+        return generator instanceof IConcurrentChunkGenerator && ((IConcurrentChunkGenerator) generator).canGenerateConcurrently();
+    }
+
+    private ChunkGenerationWorkers() {
+    }
+}
@@ -66,7 +66,6 @@
 import org.spongepowered.api.world.biome.GroundCoverLayer;
 import org.spongepowered.api.world.extent.Extent;
 import org.spongepowered.api.world.extent.ImmutableBiomeVolume;
-import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.gen.BiomeGenerator;
 import org.spongepowered.api.world.gen.GenerationPopulator;
 import org.spongepowered.api.world.gen.Populator;
@@ -80,8 +79,10 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IChunkProviderOverworld;
+import org.spongepowered.common.interfaces.world.gen.IConcurrentChunkGenerator;
 import org.spongepowered.common.interfaces.world.gen.IFlaggedPopulator;
 import org.spongepowered.common.interfaces.world.gen.IGenerationPopulator;
+import org.spongepowered.common.interfaces.world.gen.IStatelessGenerator;
 import org.spongepowered.common.util.gen.ChunkPrimerBuffer;
 import org.spongepowered.common.util.gen.ObjectArrayMutableBiomeBuffer;
 import org.spongepowered.common.world.biome.SpongeBiomeGenerationSettings;
@@ -93,6 +94,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -100,10 +102,16 @@
 /**
  * Similar class to {@link ChunkGeneratorOverworld}, but instead gets its blocks
  * from a custom chunk generator.
+ *
+ * <p>The terrain of a chunk is generated in buffers owned by the generating
+ * thread, so it may be generated off the main thread when the biome generator
+ * and all generation populators are {@link IStatelessGenerator stateless}.
+ * Population always happens on the main thread.</p>
  */
-public class SpongeChunkGenerator implements WorldGenerator, IChunkGenerator {
+public class SpongeChunkGenerator implements WorldGenerator, IChunkGenerator, IConcurrentChunkGenerator {
 
     private static final Vector3i CHUNK_AREA = new Vector3i(16, 1, 16);
+    private static final int BIOME_CACHE_SIZE = 1024;
 
     protected BiomeGenerator biomeGenerator;
     protected GenerationPopulator baseGenerator;
@@ -115,10 +123,17 @@ public class SpongeChunkGenerator implements WorldGenerator, IChunkGenerator {
 
     protected Random rand;
     private NoiseGeneratorPerlin noise4;
-    private double[] stoneNoise;
+    private final ThreadLocal<GenerationBuffers> generationBuffers = ThreadLocal.withInitial(GenerationBuffers::new);
+    // The biomes of generated chunks, reused to populate them
+    private final BiomeVolumeCache biomeCache = new BiomeVolumeCache(BIOME_CACHE_SIZE);
+    // The populators run in each biome, in order. Rebuilt once the populators they were built from changed.
+    private final Map<BiomeType, BiomePopulators> biomePopulators = new ConcurrentHashMap<>();
 
     protected Map<String, Timing> populatorTimings = Maps.newHashMap();
+    // Terrain may be generated on worker threads, but only the main thread records timings
+    private final Map<String, Timing> generationPopulatorTimings = new ConcurrentHashMap<>();
     protected Timing chunkGeneratorTiming;
+    private final WorldGenProfiler profiler = new WorldGenProfiler();
 
     public SpongeChunkGenerator(World world, GenerationPopulator base, BiomeGenerator biomegen) {
         this.world = checkNotNull(world, "world");
@@ -130,10 +145,9 @@ public SpongeChunkGenerator(World world, GenerationPopulator base, BiomeGenerato
 
         this.genpop = Lists.newArrayList();
         this.pop = Lists.newArrayList();
-        this.biomeSettings = Maps.newHashMap();
+        this.biomeSettings = new ConcurrentHashMap<>();
         this.rand = new Random(world.getSeed());
         this.noise4 = new NoiseGeneratorPerlin(this.rand, 4);
-        this.stoneNoise = new double[256];
 
         this.world.provider.biomeProvider = CustomBiomeProvider.of(this.biomeGenerator);
         if (this.baseGenerator instanceof IChunkProviderOverworld) {
@@ -153,6 +167,10 @@ public SpongeChunkGenerator(World world, GenerationPopulator base, BiomeGenerato
 
     }
 
+    public WorldGenProfiler getProfiler() {
+        return this.profiler;
+    }
+
     @Override
     public GenerationPopulator getBaseGenerationPopulator() {
         return this.baseGenerator;
@@ -189,7 +207,7 @@ public Map<BiomeType, BiomeGenerationSettings> getBiomeOverrides() {
     }
 
     public void setBiomeOverrides(Map<BiomeType, BiomeGenerationSettings> biomeOverrides) {
-        this.biomeSettings = Maps.newHashMap(biomeOverrides);
+        this.biomeSettings = new ConcurrentHashMap<>(biomeOverrides);
     }
 
     @Override
@@ -200,6 +218,7 @@ public BiomeGenerator getBiomeGenerator() {
     @Override
     public void setBiomeGenerator(BiomeGenerator biomeGenerator) {
         this.biomeGenerator = biomeGenerator;
+        this.biomeCache.clear();
         this.world.provider.biomeProvider = CustomBiomeProvider.of(biomeGenerator);
         if (this.baseGenerator instanceof IChunkProviderOverworld) {
             ((IChunkProviderOverworld) this.baseGenerator).setBiomeGenerator(biomeGenerator);
@@ -209,6 +228,10 @@ public void setBiomeGenerator(BiomeGenerator biomeGenerator) {
     @Override
     public BiomeGenerationSettings getBiomeSettings(BiomeType type) {
         checkNotNull(type, "type");
+        return getOrCreateBiomeSettings(type);
+    }
+
+    private BiomeGenerationSettings getOrCreateBiomeSettings(BiomeType type) {
         BiomeGenerationSettings settings = this.biomeSettings.get(type);
         if (settings == null) {
             if (SpongeGenerationPopulator.class.isInstance(this.baseGenerator)) {
@@ -219,11 +242,35 @@ public BiomeGenerationSettings getBiomeSettings(BiomeType type) {
             } else {
                 settings = type.createDefaultGenerationSettings((org.spongepowered.api.world.World) this.world);
             }
-            this.biomeSettings.put(type, settings);
+            final BiomeGenerationSettings previous = this.biomeSettings.putIfAbsent(type, settings);
+            if (previous != null) {
+                settings = previous;
+            }
         }
         return settings;
     }
 
+    @Override
+    public boolean canGenerateConcurrently() {
+        if (!(this.biomeGenerator instanceof IStatelessGenerator) || !(this.baseGenerator instanceof IStatelessGenerator)) {
+            return false;
+        }
+        for (GenerationPopulator populator : this.genpop) {
+            if (!(populator instanceof IStatelessGenerator)) {
+                return false;
+            }
+        }
+        // Also creates the settings of all biomes now, instead of on the generating threads
+        for (BiomeType type : Sponge.getRegistry().getAllOf(BiomeType.class)) {
+            for (GenerationPopulator populator : getOrCreateBiomeSettings(type).getGenerationPopulators()) {
+                if (!(populator instanceof IStatelessGenerator)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
     public List<GenerationPopulator> getGenerationPopulators(Class<? extends GenerationPopulator> type) {
         return this.genpop.stream().filter((p) -> type.isAssignableFrom(p.getClass())).collect(Collectors.toList());
@@ -236,23 +283,27 @@ public List<Populator> getPopulators(Class<? extends Populator> type) {
 
     @Override
     public Chunk generateChunk(int chunkX, int chunkZ) {
-        this.rand.setSeed(chunkX * 341873128712L + chunkZ * 132897987541L);
-        this.cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
-        this.biomeGenerator.generateBiomes(this.cachedBiomes);
-        ImmutableBiomeVolume biomeBuffer = this.cachedBiomes.getImmutableBiomeCopy();
+        final GenerationBuffers buffers = this.generationBuffers.get();
+        final Random rand = buffers.rand;
+        final ObjectArrayMutableBiomeBuffer cachedBiomes = buffers.biomes;
+        rand.setSeed(chunkX * 341873128712L + chunkZ * 132897987541L);
+        cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
+        this.biomeGenerator.generateBiomes(cachedBiomes);
+        ImmutableBiomeVolume biomeBuffer = cachedBiomes.getImmutableBiomeCopy();
+        this.biomeCache.put(chunkX, chunkZ, biomeBuffer);
 
         // Generate base terrain
         ChunkPrimer chunkprimer = new ChunkPrimer();
-        MutableBlockVolume blockBuffer = new ChunkPrimerBuffer(chunkprimer, chunkX, chunkZ);
-        this.baseGenerator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
+        ChunkPrimerBuffer blockBuffer = new ChunkPrimerBuffer(chunkprimer, chunkX, chunkZ);
+        generate(this.baseGenerator, blockBuffer, biomeBuffer);
 
         if (!(this.baseGenerator instanceof SpongeGenerationPopulator)) {
-            replaceBiomeBlocks(this.world, this.rand, chunkX, chunkZ, chunkprimer, biomeBuffer);
+            replaceBiomeBlocks(this.world, rand, chunkX, chunkZ, chunkprimer, biomeBuffer);
         }
 
         // Apply the generator populators to complete the blockBuffer
         for (GenerationPopulator populator : this.genpop) {
-            populator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
+            generate(populator, blockBuffer, biomeBuffer);
         }
 
         // Get unique biomes to determine what generator populators to run
@@ -260,7 +311,7 @@ public Chunk generateChunk(int chunkX, int chunkZ) {
         BiomeType biome;
         for (int x = 0; x < 16; x++) {
             for (int z = 0; z < 16; z++) {
-                biome = this.cachedBiomes.getBiome(chunkX * 16 + x, 0, chunkZ * 16 + z);
+                biome = cachedBiomes.getBiome(chunkX * 16 + x, 0, chunkZ * 16 + z);
                 if (!uniqueBiomes.contains(biome)) {
                     uniqueBiomes.add(biome);
                 }
@@ -269,9 +320,9 @@ public Chunk generateChunk(int chunkX, int chunkZ) {
 
         // run our generator populators
         for (BiomeType type : uniqueBiomes) {
-            BiomeGenerationSettings settings = getBiomeSettings(type);
+            BiomeGenerationSettings settings = getOrCreateBiomeSettings(type);
             for (GenerationPopulator populator : settings.getGenerationPopulators()) {
-                populator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
+                generate(populator, blockBuffer, biomeBuffer);
             }
         }
 
@@ -282,12 +333,39 @@ public Chunk generateChunk(int chunkX, int chunkZ) {
             ((IMixinChunk) chunk).fill(chunkprimer);
         } else {
             chunk = new Chunk(this.world, chunkprimer, chunkX, chunkZ);
-            this.cachedBiomes.fill(chunk.getBiomeArray());
+            cachedBiomes.fill(chunk.getBiomeArray());
         }
         chunk.generateSkylightMap();
         return chunk;
     }
 
+    private void generate(GenerationPopulator populator, ChunkPrimerBuffer blockBuffer, ImmutableBiomeVolume biomeBuffer) {
+        final boolean profiling = WorldGenProfiler.isEnabled();
+        Timing timing = null;
+        if (Timings.isTimingsEnabled() && Sponge.getServer().isMainThread()) {
+            timing = this.generationPopulatorTimings.computeIfAbsent(getGenerationPopulatorId(populator),
+                    id -> SpongeTimingsFactory.ofSafe("generate - " + id));
+            timing.startTimingIfSync();
+        }
+        final long start = profiling ? System.nanoTime() : 0L;
+        final int blocksSet = blockBuffer.getBlocksSet();
+        populator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
+        if (profiling) {
+            this.profiler.getStats(WorldGenProfiler.Phase.GENERATION, getGenerationPopulatorId(populator))
+                    .record(System.nanoTime() - start, blockBuffer.getBlocksSet() - blocksSet);
+        }
+        if (timing != null) {
+            timing.stopTimingIfSync();
+        }
+    }
+
+    private String getGenerationPopulatorId(GenerationPopulator populator) {
+        if (populator instanceof SpongeGenerationPopulator) {
+            return ((SpongeGenerationPopulator) populator).getHandle(this.world).getClass().getName();
+        }
+        return populator.getClass().getName();
+    }
+
     @Override
     public void populate(int chunkX, int chunkZ) {
         IMixinWorldServer world = (IMixinWorldServer) this.world;
@@ -300,36 +378,24 @@ public void populate(int chunkX, int chunkZ) {
         this.rand.setSeed(chunkX * i1 + chunkZ * j1 ^ this.world.getSeed());
         BlockFalling.fallInstantly = true;
 
-        // Have to regeneate the biomes so that any virtual biomes can be passed
-        // to the populator.
-        this.cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
-        this.biomeGenerator.generateBiomes(this.cachedBiomes);
-        ImmutableBiomeVolume biomeBuffer = this.cachedBiomes.getImmutableBiomeCopy();
+        // Have to use the generated biomes rather than the biomes of the chunk
+        // so that any virtual biomes can be passed to the populator. They are
+        // usually still cached from generating the chunk.
+        ImmutableBiomeVolume biomeBuffer = this.biomeCache.get(chunkX, chunkZ);
+        if (biomeBuffer == null) {
+            this.cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
+            this.biomeGenerator.generateBiomes(this.cachedBiomes);
+            biomeBuffer = this.cachedBiomes.getImmutableBiomeCopy();
+            this.biomeCache.put(chunkX, chunkZ, biomeBuffer);
+        }
 
         BlockPos blockpos = new BlockPos(chunkX * 16, 0, chunkZ * 16);
         BiomeType biome = (BiomeType) this.world.getBiome(blockpos.add(16, 0, 16));
 
         org.spongepowered.api.world.Chunk chunk = (org.spongepowered.api.world.Chunk) this.world.getChunkFromChunkCoords(chunkX, chunkZ);
 
-        BiomeGenerationSettings settings = getBiomeSettings(biome);
-
-        List<Populator> populators = new ArrayList<>(this.pop);
-
-        Populator snowPopulator = null;
-        Iterator<Populator> itr = populators.iterator();
-        while (itr.hasNext()) {
-            Populator populator = itr.next();
-            if (populator instanceof SnowPopulator) {
-                itr.remove();
-                snowPopulator = populator;
-                break;
-            }
-        }
-
-        populators.addAll(settings.getPopulators());
-        if (snowPopulator != null) {
-            populators.add(snowPopulator);
-        }
+        // Copied as the event allows to change the populators of this chunk
+        List<Populator> populators = new ArrayList<>(getBiomePopulators(biome));
 
         Sponge.getGame().getEventManager().post(SpongeEventFactory.createPopulateChunkEventPre(Sponge.getCauseStackManager().getCurrentCause(), populators, chunk));
         List<String> flags = Lists.newArrayList();
@@ -341,17 +407,18 @@ public void populate(int chunkX, int chunkZ) {
             if (type == null) {
                 System.err.printf("Found a populator with a null type: %s populator%n", populator);
             }
+            final String populatorId = type == null ? populator.getClass().getName() : type.getId();
             if (Sponge.getGame().getEventManager().post(SpongeEventFactory.createPopulateChunkEventPopulate(Sponge.getCauseStackManager().getCurrentCause(), populator, chunk))) {
                 continue;
             }
             try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
                 Timing timing = null;
                 if (Timings.isTimingsEnabled()) {
-                    timing = this.populatorTimings.get(populator.getType().getId());
+                    timing = this.populatorTimings.get(populatorId);
                     if (timing == null) {
-                        timing = SpongeTimingsFactory.ofSafe("populate - " + populator.getType().getId());// ,
-                                                                                                          // this.chunkGeneratorTiming);
-                        this.populatorTimings.put(populator.getType().getId(), timing);
+                        timing = SpongeTimingsFactory.ofSafe("populate - " + populatorId);// ,
+                                                                                          // this.chunkGeneratorTiming);
+                        this.populatorTimings.put(populatorId, timing);
                     }
                     timing.startTimingIfSync();
                 }
@@ -362,12 +429,25 @@ public void populate(int chunkX, int chunkZ) {
                             .addEntityCaptures()
                             .complete());
                 }
-                if (populator instanceof IFlaggedPopulator) {
-                    ((IFlaggedPopulator) populator).populate(spongeWorld, volume, this.rand, biomeBuffer, flags);
-                } else {
-                    populator.populate(spongeWorld, volume, this.rand, biomeBuffer);
+                final WorldGenProfiler.PopulatorStats stats =
+                        WorldGenProfiler.isEnabled() ? this.profiler.getStats(WorldGenProfiler.Phase.POPULATION, populatorId) : null;
+                final long start = stats != null ? System.nanoTime() : 0L;
+                if (stats != null) {
+                    this.profiler.startPopulating(stats);
                 }
-                if (Timings.isTimingsEnabled()) {
+                try {
+                    if (populator instanceof IFlaggedPopulator) {
+                        ((IFlaggedPopulator) populator).populate(spongeWorld, volume, this.rand, biomeBuffer, flags);
+                    } else {
+                        populator.populate(spongeWorld, volume, this.rand, biomeBuffer);
+                    }
+                } finally {
+                    if (stats != null) {
+                        this.profiler.stopPopulating();
+                        stats.record(System.nanoTime() - start);
+                    }
+                }
+                if (timing != null) {
                     timing.stopTimingIfSync();
                 }
                 if (CauseTracker.ENABLED) {
@@ -385,8 +465,21 @@ public void populate(int chunkX, int chunkZ) {
                 timing = spongePopulator.getTimingsHandler();
                 timing.startTimingIfSync();
             }
-            ((SpongeGenerationPopulator) this.baseGenerator).getHandle(this.world).populate(chunkX, chunkZ);
-            if (Timings.isTimingsEnabled()) {
+            final WorldGenProfiler.PopulatorStats stats = WorldGenProfiler.isEnabled()
+                    ? this.profiler.getStats(WorldGenProfiler.Phase.POPULATION, getGenerationPopulatorId(this.baseGenerator)) : null;
+            final long start = stats != null ? System.nanoTime() : 0L;
+            if (stats != null) {
+                this.profiler.startPopulating(stats);
+            }
+            try {
+                ((SpongeGenerationPopulator) this.baseGenerator).getHandle(this.world).populate(chunkX, chunkZ);
+            } finally {
+                if (stats != null) {
+                    this.profiler.stopPopulating();
+                    stats.record(System.nanoTime() - start);
+                }
+            }
+            if (timing != null) {
                 timing.stopTimingIfSync();
             }
         }
@@ -399,6 +492,42 @@ public void populate(int chunkX, int chunkZ) {
         world.getTimingsHandler().chunkPopulate.stopTimingIfSync();
     }
 
+    /**
+     * Gets the populators to run in the given biome, in order. The list is
+     * rebuilt whenever the global or biome populators differ from the ones
+     * it was built from, as both lists may be modified at any time by
+     * whoever obtained them.
+     *
+     * @param biome The biome
+     * @return The populators of the biome
+     */
+    private List<Populator> getBiomePopulators(BiomeType biome) {
+        final BiomeGenerationSettings settings = getOrCreateBiomeSettings(biome);
+        final BiomePopulators cached = this.biomePopulators.get(biome);
+        if (cached != null && cached.isBuiltFrom(this.pop, settings)) {
+            return cached.populators;
+        }
+        final List<Populator> populators = new ArrayList<>(this.pop);
+
+        Populator snowPopulator = null;
+        Iterator<Populator> itr = populators.iterator();
+        while (itr.hasNext()) {
+            Populator populator = itr.next();
+            if (populator instanceof SnowPopulator) {
+                itr.remove();
+                snowPopulator = populator;
+                break;
+            }
+        }
+
+        populators.addAll(settings.getPopulators());
+        if (snowPopulator != null) {
+            populators.add(snowPopulator);
+        }
+        this.biomePopulators.put(biome, new BiomePopulators(this.pop, settings, populators));
+        return populators;
+    }
+
     @Override
     public boolean generateStructures(Chunk chunk, int chunkX, int chunkZ) {
         boolean flag = false;
@@ -520,13 +649,14 @@ public void recreateStructures(Chunk chunkIn, int x, int z) {
 
     public void replaceBiomeBlocks(World world, Random rand, int x, int z, ChunkPrimer chunk, ImmutableBiomeVolume biomes) {
         double d0 = 0.03125D;
-        this.stoneNoise = this.noise4.getRegion(this.stoneNoise, x * 16, z * 16, 16, 16, d0 * 2.0D, d0 * 2.0D, 1.0D);
+        final GenerationBuffers buffers = this.generationBuffers.get();
+        final double[] stoneNoise = buffers.stoneNoise = this.noise4.getRegion(buffers.stoneNoise, x * 16, z * 16, 16, 16, d0 * 2.0D, d0 * 2.0D, 1.0D);
         Vector3i min = biomes.getBiomeMin();
         for (int x0 = 0; x0 < 16; ++x0) {
             for (int z0 = 0; z0 < 16; ++z0) {
                 BiomeType biomegenbase = biomes.getBiome(min.getX() + x0, 0, min.getZ() + z0);
-                generateBiomeTerrain(world, rand, chunk, x * 16 + x0, z * 16 + z0, this.stoneNoise[x0 + z0 * 16],
-                        getBiomeSettings(biomegenbase).getGroundCoverLayers());
+                generateBiomeTerrain(world, rand, chunk, x * 16 + x0, z * 16 + z0, stoneNoise[x0 + z0 * 16],
+                        getOrCreateBiomeSettings(biomegenbase).getGroundCoverLayers());
             }
         }
     }
@@ -597,4 +727,41 @@ public void generateBiomeTerrain(World worldIn, Random rand, ChunkPrimer chunk,
         }
     }
 
+    /**
+     * The buffers used by a thread to generate the terrain of a chunk.
+     */
+    private static final class GenerationBuffers {
+
+        final Random rand = new Random();
+        final ObjectArrayMutableBiomeBuffer biomes = new ObjectArrayMutableBiomeBuffer(Vector3i.ZERO, CHUNK_AREA);
+        double[] stoneNoise = new double[256];
+
+    }
+
+    /**
+     * The populators of a biome along with copies of the lists they were
+     * built from. Comparing those is cheap next to populating a chunk, and
+     * catches changes to lists which were handed out earlier.
+     */
+    private static final class BiomePopulators {
+
+        private final List<Populator> globalPopulators;
+        private final BiomeGenerationSettings settings;
+        private final List<Populator> settingsPopulators;
+        final List<Populator> populators;
+
+        BiomePopulators(List<Populator> globalPopulators, BiomeGenerationSettings settings, List<Populator> populators) {
+            this.globalPopulators = new ArrayList<>(globalPopulators);
+            this.settings = settings;
+            this.settingsPopulators = new ArrayList<>(settings.getPopulators());
+            this.populators = populators;
+        }
+
+        boolean isBuiltFrom(List<Populator> globalPopulators, BiomeGenerationSettings settings) {
+            return this.settings == settings && this.globalPopulators.equals(globalPopulators)
+                    && this.settingsPopulators.equals(settings.getPopulators());
+        }
+
+    }
+
 }
@@ -0,0 +1,172 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gen;
+
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.world.gen.WorldGenerator;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Records the invocations, time spent and blocks changed by each generation
+ * populator and populator of a {@link SpongeChunkGenerator} while enabled.
+ */
+public final class WorldGenProfiler {
+
+    public enum Phase {
+        /**
+         * Generating the terrain of a chunk, blocks changed are the blocks
+         * set in its buffer.
+         */
+        GENERATION,
+        /**
+         * Populating a chunk, blocks changed are the blocks set in the world.
+         */
+        POPULATION
+    }
+
+    private static volatile boolean enabled = SpongeImpl.getGlobalConfig().getConfig().getDebug().profileWorldGeneration();
+
+    private final Map<String, PopulatorStats> stats = new ConcurrentHashMap<>();
+    // Only accessed by the thread populating the world
+    @Nullable private PopulatorStats populating;
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        WorldGenProfiler.enabled = enabled;
+    }
+
+    /**
+     * Counts a block changed in the given world, towards the populator that
+     * is currently populating it.
+     *
+     * @param world The world
+     */
+    public static void onBlockChange(World world) {
+        if (!(world instanceof WorldServer)) {
+            return;
+        }
+        final WorldGenerator generator = ((org.spongepowered.api.world.World) world).getWorldGenerator();
+        if (generator instanceof SpongeChunkGenerator) {
+            final PopulatorStats populating = ((SpongeChunkGenerator) generator).getProfiler().populating;
+            if (populating != null) {
+                populating.blocks.increment();
+            }
+        }
+    }
+
+    public PopulatorStats getStats(Phase phase, String id) {
+        final String key = phase.name() + ':' + id;
+        PopulatorStats populatorStats = this.stats.get(key);
+        if (populatorStats == null) {
+            populatorStats = this.stats.computeIfAbsent(key, k -> new PopulatorStats(phase, id));
+        }
+        return populatorStats;
+    }
+
+    void startPopulating(PopulatorStats stats) {
+        this.populating = stats;
+    }
+
+    void stopPopulating() {
+        this.populating = null;
+    }
+
+    public void reset() {
+        this.stats.clear();
+    }
+
+    /**
+     * Gets a snapshot of all recorded stats, slowest in total first.
+     *
+     * @return The recorded stats
+     */
+    public List<PopulatorStats> getStats() {
+        final List<PopulatorStats> result = new ArrayList<>(this.stats.values());
+        result.sort(Comparator.comparingLong(PopulatorStats::getTotalNanos).reversed());
+        return result;
+    }
+
+    public static final class PopulatorStats {
+
+        private final Phase phase;
+        private final String id;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder blocks = new LongAdder();
+
+        PopulatorStats(Phase phase, String id) {
+            this.phase = phase;
+            this.id = id;
+        }
+
+        void record(long nanos) {
+            this.invocations.increment();
+            this.nanos.add(nanos);
+        }
+
+        void record(long nanos, int blocks) {
+            record(nanos);
+            this.blocks.add(blocks);
+        }
+
+        public Phase getPhase() {
+            return this.phase;
+        }
+
+        public String getId() {
+            return this.id;
+        }
+
+        public long getInvocations() {
+            return this.invocations.sum();
+        }
+
+        public long getTotalNanos() {
+            return this.nanos.sum();
+        }
+
+        public long getMeanNanos() {
+            final long invocations = getInvocations();
+            return invocations == 0 ? 0 : getTotalNanos() / invocations;
+        }
+
+        public long getBlocksChanged() {
+            return this.blocks.sum();
+        }
+    }
+}
@@ -31,8 +31,9 @@
 import org.spongepowered.api.world.extent.ImmutableBiomeVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.gen.GenerationPopulator;
+import org.spongepowered.common.interfaces.world.gen.IStatelessGenerator;
 
-public class EndBiomeGenerationPopulator implements GenerationPopulator {
+public class EndBiomeGenerationPopulator implements GenerationPopulator, IStatelessGenerator {
 
     @Override
     public void populate(World world, MutableBlockVolume buffer, ImmutableBiomeVolume biomes) {
@@ -0,0 +1,240 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.pregen;
+
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.world.gen.ChunkGenerationWorkers;
+import org.spongepowered.common.world.storage.WorldStorageUtil;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Pre-generates a square area of chunks region file by region file. The
+ * existing chunks of a region are looked up off the main thread with a
+ * single task, and the terrain of the missing chunks is generated on the
+ * {@link ChunkGenerationWorkers} if the world generator supports it. Only
+ * population and insertion of the chunks happen on the main thread.
+ */
+final class RegionChunkPreGenerator {
+
+    // A region file holds 32x32 chunks
+    private static final int REGION_SHIFT = 5;
+    private static final int REGION_SIZE = 1 << REGION_SHIFT;
+
+    private final WorldServer world;
+    private final IMixinChunkProviderServer chunkProvider;
+    private final int minX;
+    private final int minZ;
+    private final int maxX;
+    private final int maxZ;
+    private final List<long[]> regions = new ArrayList<>();
+    private final boolean concurrent;
+    private final int maxInFlight;
+
+    private final Queue<Chunk> generatedChunks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private int regionIndex;
+    @Nullable private CompletableFuture<BitSet> nextRegionExistence;
+    // The chunks of the current region which still need to be generated, packed as longs
+    private long[] missingChunks = new long[0];
+    private int missingIndex;
+    // Whether the existing chunks of the current region are unknown, they are then provided on the main thread
+    // to load instead of overwrite the chunks that do exist
+    private boolean regionUnchecked;
+
+    private int stepGenerated;
+    private int stepSkipped;
+
+    RegionChunkPreGenerator(WorldServer world, int centerX, int centerZ, int chunkRadius) {
+        this.world = world;
+        this.chunkProvider = (IMixinChunkProviderServer) world.getChunkProvider();
+        this.minX = centerX - chunkRadius;
+        this.minZ = centerZ - chunkRadius;
+        this.maxX = centerX + chunkRadius;
+        this.maxZ = centerZ + chunkRadius;
+        this.concurrent = ChunkGenerationWorkers.canGenerateConcurrently(((ChunkProviderServer) this.chunkProvider).chunkGenerator);
+        this.maxInFlight = ChunkGenerationWorkers.getThreadCount() * 4;
+
+        // Work through the regions from the center outwards
+        final int centerRegionX = centerX >> REGION_SHIFT;
+        final int centerRegionZ = centerZ >> REGION_SHIFT;
+        for (int regionZ = this.minZ >> REGION_SHIFT; regionZ <= this.maxZ >> REGION_SHIFT; regionZ++) {
+            for (int regionX = this.minX >> REGION_SHIFT; regionX <= this.maxX >> REGION_SHIFT; regionX++) {
+                this.regions.add(new long[] {regionX, regionZ});
+            }
+        }
+        this.regions.sort(Comparator.comparingLong(region ->
+                Math.max(Math.abs(region[0] - centerRegionX), Math.abs(region[1] - centerRegionZ))));
+        this.nextRegionExistence = this.checkRegion(0);
+    }
+
+    /**
+     * Generates chunks until the given time or amount of chunks is reached, or
+     * no more work can be done during this step.
+     *
+     * @param endTime The wall clock time in milliseconds to stop at
+     * @param maxChunks The maximum amount of chunks to generate
+     */
+    void step(long endTime, int maxChunks) {
+        this.stepGenerated = 0;
+        this.stepSkipped = 0;
+        int dispatched = 0;
+        Chunk chunk;
+        while (System.currentTimeMillis() < endTime && this.stepGenerated < maxChunks && (chunk = this.generatedChunks.poll()) != null) {
+            this.inFlight.decrementAndGet();
+            this.chunkProvider.insertGeneratedChunk(chunk);
+            this.loadExistingNeighbors(chunk.x, chunk.z);
+            this.stepGenerated++;
+        }
+        while (System.currentTimeMillis() < endTime && this.stepGenerated < maxChunks) {
+            if (this.missingIndex >= this.missingChunks.length && !this.nextRegion()) {
+                break;
+            }
+            if (this.missingIndex >= this.missingChunks.length) {
+                continue;
+            }
+            final long packed = this.missingChunks[this.missingIndex];
+            final int x = (int) (packed >> 32);
+            final int z = (int) packed;
+            if (this.concurrent && !this.regionUnchecked) {
+                if (this.inFlight.get() >= this.maxInFlight || dispatched >= maxChunks) {
+                    break;
+                }
+                this.missingIndex++;
+                this.generate(x, z);
+                dispatched++;
+            } else {
+                this.missingIndex++;
+                ((ChunkProviderServer) this.chunkProvider).provideChunk(x, z);
+                this.loadExistingNeighbors(x, z);
+                this.stepGenerated++;
+            }
+        }
+    }
+
+    private void generate(int x, int z) {
+        this.inFlight.incrementAndGet();
+        final ExecutorService executor = ChunkGenerationWorkers.getExecutor();
+        CompletableFuture.supplyAsync(() -> ((ChunkProviderServer) this.chunkProvider).chunkGenerator.generateChunk(x, z), executor)
+                .whenComplete((chunk, throwable) -> {
+                    if (throwable != null) {
+                        this.inFlight.decrementAndGet();
+                        SpongeImpl.getLogger().error("Failed to generate chunk at {}, {} during pre-generation", x, z, throwable);
+                    } else {
+                        this.generatedChunks.offer(chunk);
+                    }
+                });
+    }
+
+    /**
+     * Chunks are only populated once their neighbors are loaded, so existing
+     * neighbors of a new chunk within the area have to be loaded as well.
+     */
+    private void loadExistingNeighbors(int chunkX, int chunkZ) {
+        for (int z = Math.max(chunkZ - 1, this.minZ); z <= Math.min(chunkZ + 1, this.maxZ); z++) {
+            for (int x = Math.max(chunkX - 1, this.minX); x <= Math.min(chunkX + 1, this.maxX); x++) {
+                if (this.chunkProvider.getLoadedChunkWithoutMarkingActive(x, z) == null
+                        && ((ChunkProviderServer) this.chunkProvider).isChunkGeneratedAt(x, z)) {
+                    ((ChunkProviderServer) this.chunkProvider).provideChunk(x, z);
+                }
+            }
+        }
+    }
+
+    private boolean nextRegion() {
+        final CompletableFuture<BitSet> existence = this.nextRegionExistence;
+        if (existence == null || !existence.isDone()) {
+            return false;
+        }
+        final long[] region = this.regions.get(this.regionIndex);
+        final int regionMinX = Math.max((int) region[0] << REGION_SHIFT, this.minX);
+        final int regionMinZ = Math.max((int) region[1] << REGION_SHIFT, this.minZ);
+        final int regionMaxX = Math.min(((int) region[0] << REGION_SHIFT) + REGION_SIZE - 1, this.maxX);
+        final int regionMaxZ = Math.min(((int) region[1] << REGION_SHIFT) + REGION_SIZE - 1, this.maxZ);
+        final int width = regionMaxX - regionMinX + 1;
+        final BitSet checked = existence.getNow(null);
+        final BitSet existing = checked == null ? new BitSet() : checked;
+        this.regionUnchecked = checked == null;
+
+        final long[] missing = new long[width * (regionMaxZ - regionMinZ + 1) - existing.cardinality()];
+        int index = 0;
+        for (int z = regionMinZ; z <= regionMaxZ; z++) {
+            for (int x = regionMinX; x <= regionMaxX; x++) {
+                if (!existing.get((x - regionMinX) + (z - regionMinZ) * width)) {
+                    missing[index++] = ((long) x << 32) | (z & 0xFFFFFFFFL);
+                }
+            }
+        }
+        this.missingChunks = missing;
+        this.missingIndex = 0;
+        this.stepSkipped += existing.cardinality();
+
+        // Look up the next region while this one is being generated
+        this.regionIndex++;
+        this.nextRegionExistence = this.regionIndex < this.regions.size() ? this.checkRegion(this.regionIndex) : null;
+        return true;
+    }
+
+    private CompletableFuture<BitSet> checkRegion(int index) {
+        final long[] region = this.regions.get(index);
+        return WorldStorageUtil.doChunksExist(this.world, this.chunkProvider.getChunkLoader(),
+                Math.max((int) region[0] << REGION_SHIFT, this.minX),
+                Math.max((int) region[1] << REGION_SHIFT, this.minZ),
+                Math.min(((int) region[0] << REGION_SHIFT) + REGION_SIZE - 1, this.maxX),
+                Math.min(((int) region[1] << REGION_SHIFT) + REGION_SIZE - 1, this.maxZ))
+                .exceptionally(throwable -> {
+                    SpongeImpl.getLogger().error("Failed to look up the existing chunks of region {}, {} during pre-generation, "
+                            + "treating them as missing", region[0], region[1], throwable);
+                    return null;
+                });
+    }
+
+    boolean isDone() {
+        return this.nextRegionExistence == null && this.missingIndex >= this.missingChunks.length && this.inFlight.get() == 0;
+    }
+
+    int getStepGenerated() {
+        return this.stepGenerated;
+    }
+
+    int getStepSkipped() {
+        return this.stepSkipped;
+    }
+}
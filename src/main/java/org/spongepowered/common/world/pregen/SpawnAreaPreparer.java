@@ -0,0 +1,187 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.pregen;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.IChunkLoader;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.world.gen.ChunkGenerationWorkers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+
+/**
+ * Prepares the spawn area of a world with the {@link ChunkGenerationWorkers}
+ * instead of providing its chunks one after another. Stored chunks are read
+ * from disk on the workers, and the terrain of missing chunks is generated
+ * on them too if the world generator supports it. Only the creation of
+ * chunks from their data, population and insertion of the chunks into the
+ * world happen on the main thread.
+ */
+public final class SpawnAreaPreparer {
+
+    private static final long PROGRESS_INTERVAL = 1000L;
+
+    private final WorldServer world;
+    private final ChunkProviderServer chunkProvider;
+    private final int centerX;
+    private final int centerZ;
+    private final int chunkRadius;
+    // Work completed by the workers which has to be finished by the main thread
+    private final BlockingQueue<Runnable> completed = new LinkedBlockingQueue<>();
+
+    private int loaded;
+    private int generated;
+
+    public SpawnAreaPreparer(WorldServer world, int centerX, int centerZ, int chunkRadius) {
+        this.world = world;
+        this.chunkProvider = world.getChunkProvider();
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.chunkRadius = chunkRadius;
+    }
+
+    /**
+     * Loads or generates all chunks of the spawn area, blocking the main
+     * thread until they are all inserted into the world.
+     *
+     * @param running Whether the server is still running, preparation stops otherwise
+     * @param progress Receives the percentage of chunks prepared, about once per second
+     */
+    public void prepare(BooleanSupplier running, IntConsumer progress) {
+        final IChunkLoader chunkLoader = ((IMixinChunkProviderServer) this.chunkProvider).getChunkLoader();
+        final IMixinAnvilChunkLoader anvilChunkLoader = chunkLoader instanceof IMixinAnvilChunkLoader ? (IMixinAnvilChunkLoader) chunkLoader : null;
+        final boolean concurrent = ChunkGenerationWorkers.canGenerateConcurrently(this.chunkProvider.chunkGenerator);
+        final ExecutorService executor = ChunkGenerationWorkers.getExecutor();
+
+        // Prepare the chunks from the center outwards, the way players will see them
+        final List<long[]> chunks = new ArrayList<>();
+        for (int z = this.centerZ - this.chunkRadius; z <= this.centerZ + this.chunkRadius; z++) {
+            for (int x = this.centerX - this.chunkRadius; x <= this.centerX + this.chunkRadius; x++) {
+                chunks.add(new long[] {x, z});
+            }
+        }
+        chunks.sort(Comparator.comparingLong(chunk -> Math.max(Math.abs(chunk[0] - this.centerX), Math.abs(chunk[1] - this.centerZ))));
+
+        final int total = chunks.size();
+        int submitted = 0;
+        int done = 0;
+        for (long[] chunk : chunks) {
+            final int x = (int) chunk[0];
+            final int z = (int) chunk[1];
+            if (((IMixinChunkProviderServer) this.chunkProvider).getLoadedChunkWithoutMarkingActive(x, z) != null) {
+                done++;
+            } else if (anvilChunkLoader == null) {
+                // Storage can't be read off the main thread, let the provider load or generate the chunk
+                this.completed.add(() -> this.provide(x, z));
+                submitted++;
+            } else {
+                executor.execute(() -> this.completed.add(this.prepareChunk(anvilChunkLoader, concurrent, x, z)));
+                submitted++;
+            }
+        }
+
+        long lastProgress = System.currentTimeMillis();
+        int finished = 0;
+        while (finished < submitted && running.getAsBoolean()) {
+            final Runnable work;
+            try {
+                work = this.completed.poll(PROGRESS_INTERVAL, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (work != null) {
+                work.run();
+                finished++;
+            }
+            final long now = System.currentTimeMillis();
+            if (now - lastProgress > PROGRESS_INTERVAL) {
+                progress.accept((done + finished) * 100 / total);
+                lastProgress = now;
+            }
+        }
+    }
+
+    /**
+     * Reads or generates a chunk on a worker, and returns the work left for
+     * the main thread to do.
+     */
+    private Runnable prepareChunk(IMixinAnvilChunkLoader chunkLoader, boolean concurrent, int x, int z) {
+        try {
+            final NBTTagCompound data = chunkLoader.readChunkData(x, z);
+            if (data != null) {
+                return () -> {
+                    final Chunk chunk = chunkLoader.readChunk(this.world, x, z, data);
+                    if (chunk == null) {
+                        this.provide(x, z);
+                    } else {
+                        ((IMixinChunkProviderServer) this.chunkProvider).insertLoadedChunk(chunk);
+                        this.loaded++;
+                    }
+                };
+            }
+            if (concurrent) {
+                final Chunk chunk = this.chunkProvider.chunkGenerator.generateChunk(x, z);
+                return () -> {
+                    ((IMixinChunkProviderServer) this.chunkProvider).insertGeneratedChunk(chunk);
+                    this.generated++;
+                };
+            }
+        } catch (Exception e) {
+            SpongeImpl.getLogger().error("Failed to prepare chunk at {}, {} of the spawn area, it will be provided on the main thread", x, z, e);
+        }
+        return () -> this.provide(x, z);
+    }
+
+    private void provide(int x, int z) {
+        if (this.chunkProvider.isChunkGeneratedAt(x, z)) {
+            this.loaded++;
+        } else {
+            this.generated++;
+        }
+        this.chunkProvider.provideChunk(x, z);
+    }
+
+    public int getLoadedChunks() {
+        return this.loaded;
+    }
+
+    public int getGeneratedChunks() {
+        return this.generated;
+    }
+}
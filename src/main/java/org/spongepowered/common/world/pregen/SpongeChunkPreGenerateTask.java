@@ -30,6 +30,7 @@
 import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.world.WorldServer;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -43,6 +44,7 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.WorldBorder;
 import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
@@ -84,6 +86,8 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
 
     // If null, no listeners have been assigned, so they don't need to be registered or unregistered.
     @Nullable private final EventListener<ChunkPreGenerationEvent> eventListener;
+    // If null, the chunks are generated one by one following a spiral.
+    @Nullable private final RegionChunkPreGenerator regionGenerator;
 
     private Vector3i currentPosition;
     private int currentGenCount;
@@ -140,6 +144,13 @@ private SpongeChunkPreGenerateTask(Object plugin,
 
         this.totalChunksToGenerate = (int) Math.pow(this.chunkRadius * 2 + 1, 2);
 
+        if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getWorldGenerationCategory().useParallelPreGeneration()) {
+            this.regionGenerator = new RegionChunkPreGenerator((WorldServer) world, this.currentPosition.getX(), this.currentPosition.getZ(),
+                    this.chunkRadius);
+        } else {
+            this.regionGenerator = null;
+        }
+
         this.spongeTask = this.scheduler
                 .createTaskBuilder()
                 .intervalTicks(tickInterval)
@@ -238,28 +249,35 @@ public void accept(Task task) {
         // Count how many chunks are generated during the tick
         int count = 0;
         int skipped = 0;
-        do {
-            final Vector3i position = nextChunkPosition();
-            final Vector3i pos1 = position.sub(Vector3i.UNIT_X);
-            final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
-            final Vector3i pos3 = pos2.sub(Vector3i.UNIT_X);
-
-            // We can only skip generation if all chunks are loaded.
-            if (!areAllChunksLoaded(position, pos1, pos2, pos3)) {
-
-                // At least one chunk isn't generated, so to populate, we need to load them all.
-                this.world.loadChunk(position, true);
-                this.world.loadChunk(pos1, true);
-                this.world.loadChunk(pos2, true);
-                this.world.loadChunk(pos3, true);
-
-                count += this.currentGenCount;
-            } else {
-
-                // Skipped them, log this.
-                skipped += this.currentGenCount;
-            }
-        } while (hasNextChunkPosition() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime));
+        if (this.regionGenerator != null) {
+            this.regionGenerator.step(this.tickPercent <= 0 ? Long.MAX_VALUE : stepStartTime + this.tickTimeLimit,
+                    this.chunkCount <= 0 ? Integer.MAX_VALUE : this.chunkCount);
+            count = this.regionGenerator.getStepGenerated();
+            skipped = this.regionGenerator.getStepSkipped();
+        } else {
+            do {
+                final Vector3i position = nextChunkPosition();
+                final Vector3i pos1 = position.sub(Vector3i.UNIT_X);
+                final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
+                final Vector3i pos3 = pos2.sub(Vector3i.UNIT_X);
+
+                // We can only skip generation if all chunks are loaded.
+                if (!areAllChunksLoaded(position, pos1, pos2, pos3)) {
+
+                    // At least one chunk isn't generated, so to populate, we need to load them all.
+                    this.world.loadChunk(position, true);
+                    this.world.loadChunk(pos1, true);
+                    this.world.loadChunk(pos2, true);
+                    this.world.loadChunk(pos3, true);
+
+                    count += this.currentGenCount;
+                } else {
+
+                    // Skipped them, log this.
+                    skipped += this.currentGenCount;
+                }
+            } while (hasNextChunkPosition() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime));
+        }
 
         this.chunksGenerated += count;
         this.chunksSkipped += skipped;
@@ -317,6 +335,9 @@ private void cancelTask(Task task) {
     }
 
     private boolean hasNextChunkPosition() {
+        if (this.regionGenerator != null) {
+            return !this.regionGenerator.isDone();
+        }
         return this.currentLayer <= this.chunkRadius;
     }
 
@@ -350,6 +371,11 @@ private boolean checkTickTime(long tickTime) {
         return this.tickPercent <= 0 || tickTime < this.tickTimeLimit;
     }
 
+    private static long getThroughput(ChunkPreGenerate chunkPreGenerate) {
+        final long millis = chunkPreGenerate.getTotalTime().toMillis();
+        return millis <= 0 ? 0 : chunkPreGenerate.getTotalGeneratedChunks() * 1000L / millis;
+    }
+
     public static class Builder implements ChunkPreGenerate.Builder {
 
         private static final String TIME_FORMAT = "s's 'S'ms'";
@@ -387,15 +413,17 @@ public ChunkPreGenerate.Builder logger(@Nullable Logger logger) {
                 this.addListener(event -> {
                     if (event instanceof ChunkPreGenerationEvent.Post) {
                         ChunkPreGenerationEvent.Post post = (ChunkPreGenerationEvent.Post) event;
-                        logger.info("Generated {} chunks in {}, {}% complete", post.getChunksGeneratedThisStep(),
+                        logger.info("Generated {} chunks in {} ({} chunks/s), {}% complete", post.getChunksGeneratedThisStep(),
                             DurationFormatUtils.formatDuration(post.getTimeTakenForStep().toMillis(), TIME_FORMAT, false),
+                            getThroughput(post.getChunkPreGenerate()),
                             GenericMath.floor(
                                 100 * (post.getChunkPreGenerate().getTotalGeneratedChunks() + post.getChunkPreGenerate().getTotalSkippedChunks())
                                     / post.getChunkPreGenerate().getTargetTotalChunks())
                         );
                     } else if (event instanceof ChunkPreGenerationEvent.Complete) {
-                        logger.info("Done! Generated a total of {} chunks in {}", event.getChunkPreGenerate().getTargetTotalChunks(),
-                            DurationFormatUtils.formatDuration(event.getChunkPreGenerate().getTotalTime().toMillis(), TIME_FORMAT, false));
+                        logger.info("Done! Generated a total of {} chunks in {} ({} chunks/s)", event.getChunkPreGenerate().getTargetTotalChunks(),
+                            DurationFormatUtils.formatDuration(event.getChunkPreGenerate().getTotalTime().toMillis(), TIME_FORMAT, false),
+                            getThroughput(event.getChunkPreGenerate()));
                     }
                 });
             }
@@ -0,0 +1,310 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.collect.Lists;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.world.storage.ChunkDataStream;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ChunkDataStream} which memory-maps whole region files and
+ * inflates their chunks ahead of time on an executor, keeping at most a
+ * fixed amount of chunks in flight.
+ *
+ * <p>The chunks may also be consumed through {@link #stream(boolean)},
+ * which splits the work by region file.</p>
+ *
+ * <p>Missing or malformed chunks are skipped. Region files are unmapped once
+ * all of their chunks were read, a stream which isn't consumed to its end
+ * should be {@link #close() closed}.</p>
+ */
+public class MappedChunkDataStream implements ChunkDataStream, AutoCloseable {
+
+    private final Path worldDir;
+    private final Executor executor;
+    private final int window;
+    private final ArrayDeque<CompletableFuture<DataContainer>> inFlight = new ArrayDeque<>();
+
+    @Nullable private List<Path> regionFiles;
+    private int fileIndex;
+    @Nullable private MappedRegionFile currentFile;
+    private int chunkIndex;
+    @Nullable private DataContainer nextContainer;
+
+    public MappedChunkDataStream(Path worldDir, Executor executor, int window) {
+        this.worldDir = worldDir;
+        this.executor = executor;
+        this.window = Math.max(1, window);
+    }
+
+    private List<Path> getRegionFiles() {
+        if (this.regionFiles == null) {
+            this.regionFiles = Lists.newArrayList(WorldStorageUtil.listRegionFiles(this.worldDir));
+        }
+        return this.regionFiles;
+    }
+
+    /**
+     * Submits chunks to inflate until the window is full or all region files
+     * have been visited.
+     */
+    private void fill() {
+        while (this.inFlight.size() < this.window) {
+            if (this.currentFile == null && !this.openNextFile()) {
+                return;
+            }
+            final MappedRegionFile file = this.currentFile;
+            final int index = file.nextChunk(this.chunkIndex);
+            if (index == -1) {
+                this.currentFile = null;
+                file.release();
+                continue;
+            }
+            this.chunkIndex = index + 1;
+            file.retain();
+            this.inFlight.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return file.read(index);
+                } finally {
+                    file.release();
+                }
+            }, this.executor));
+        }
+    }
+
+    private boolean openNextFile() {
+        final List<Path> files = this.getRegionFiles();
+        while (this.fileIndex < files.size()) {
+            final Path path = files.get(this.fileIndex++);
+            try {
+                this.currentFile = MappedRegionFile.open(path);
+                this.chunkIndex = 0;
+                return true;
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Unable to map region file {}", path, e);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Waits for the inflated chunks in order until one is present, skipping
+     * the chunks which were missing or malformed.
+     *
+     * @return False if no chunks are left
+     */
+    private boolean advance() {
+        while (this.nextContainer == null) {
+            this.fill();
+            final CompletableFuture<DataContainer> future = this.inFlight.poll();
+            if (future == null) {
+                return false;
+            }
+            try {
+                this.nextContainer = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                SpongeImpl.getLogger().error("Skipping a chunk which failed to be read", e.getCause());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public DataContainer next() {
+        if (!this.advance()) {
+            throw new NoSuchElementException();
+        }
+        final DataContainer container = this.nextContainer;
+        this.nextContainer = null;
+        return container;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.advance();
+    }
+
+    /**
+     * Gets the amount of chunks left according to the sector tables of the
+     * region files. This is an upper bound, chunks which turn out to be
+     * malformed are skipped by {@link #next()}.
+     *
+     * @return The maximum amount of chunks left
+     */
+    @Override
+    public int available() {
+        int count = this.inFlight.size() + (this.nextContainer == null ? 0 : 1);
+        if (this.currentFile != null) {
+            for (int index = this.chunkIndex; index < MappedRegionFile.CHUNKS_PER_REGION; index++) {
+                if (this.currentFile.hasChunk(index)) {
+                    count++;
+                }
+            }
+        }
+        final List<Path> files = this.getRegionFiles();
+        for (int i = this.fileIndex; i < files.size(); i++) {
+            count += MappedRegionFile.countChunks(files.get(i));
+        }
+        return count;
+    }
+
+    @Override
+    public void reset() {
+        this.close();
+        this.regionFiles = null;
+        this.fileIndex = 0;
+    }
+
+    /**
+     * Drops the chunks which are still in flight and releases the current
+     * region file. Files are only unmapped once their pending reads are
+     * done, so those are left to finish rather than cancelled.
+     */
+    @Override
+    public void close() {
+        this.inFlight.clear();
+        this.nextContainer = null;
+        if (this.currentFile != null) {
+            this.currentFile.release();
+            this.currentFile = null;
+        }
+        this.chunkIndex = 0;
+    }
+
+    /**
+     * Creates a stream over the chunks of all region files, independent of
+     * the position of this data stream. A parallel stream inflates the chunks
+     * of different region files on the common fork join pool.
+     *
+     * @param parallel Whether the stream is parallel
+     * @return The stream of chunk data
+     */
+    public Stream<DataContainer> stream(boolean parallel) {
+        final Set<MappedRegionFile> openFiles = ConcurrentHashMap.newKeySet();
+        return StreamSupport.stream(new RegionSpliterator(Lists.newArrayList(WorldStorageUtil.listRegionFiles(this.worldDir)), openFiles), parallel)
+                .onClose(() -> openFiles.removeIf(file -> {
+                    file.release();
+                    return true;
+                }));
+    }
+
+    /**
+     * Splits by region file, each file is mapped once a thread starts
+     * consuming it and unmapped once it has been read. Files which are
+     * still open when the stream is closed are released by the stream.
+     */
+    private static final class RegionSpliterator implements Spliterator<DataContainer> {
+
+        private final List<Path> files;
+        private final Set<MappedRegionFile> openFiles;
+        private int fileIndex;
+        @Nullable private MappedRegionFile currentFile;
+        private int chunkIndex;
+
+        RegionSpliterator(List<Path> files, Set<MappedRegionFile> openFiles) {
+            this.files = files;
+            this.openFiles = openFiles;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super DataContainer> action) {
+            while (true) {
+                if (this.currentFile == null) {
+                    if (this.fileIndex >= this.files.size()) {
+                        return false;
+                    }
+                    final Path path = this.files.get(this.fileIndex++);
+                    try {
+                        this.currentFile = MappedRegionFile.open(path);
+                        this.openFiles.add(this.currentFile);
+                        this.chunkIndex = 0;
+                    } catch (IOException e) {
+                        SpongeImpl.getLogger().error("Unable to map region file {}", path, e);
+                        continue;
+                    }
+                }
+                final int index = this.currentFile.nextChunk(this.chunkIndex);
+                if (index == -1) {
+                    if (this.openFiles.remove(this.currentFile)) {
+                        this.currentFile.release();
+                    }
+                    this.currentFile = null;
+                    continue;
+                }
+                this.chunkIndex = index + 1;
+                final DataContainer container = this.currentFile.read(index);
+                if (container != null) {
+                    action.accept(container);
+                    return true;
+                }
+            }
+        }
+
+        @Nullable
+        @Override
+        public Spliterator<DataContainer> trySplit() {
+            // Only split the files which haven't been started on yet
+            final int remaining = this.files.size() - this.fileIndex;
+            if (remaining < 2) {
+                return null;
+            }
+            final int middle = this.fileIndex + remaining / 2;
+            final RegionSpliterator split = new RegionSpliterator(this.files.subList(this.fileIndex, middle), this.openFiles);
+            this.fileIndex = middle;
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) (this.files.size() - this.fileIndex) * MappedRegionFile.CHUNKS_PER_REGION;
+        }
+
+        @Override
+        public int characteristics() {
+            return NONNULL | IMMUTABLE;
+        }
+    }
+}
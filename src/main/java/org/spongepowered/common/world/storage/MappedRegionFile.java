@@ -0,0 +1,232 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A read-only view of a memory-mapped region file, which reads the sector
+ * table directly instead of going through {@link net.minecraft.world.chunk.storage.RegionFile}.
+ * Chunks may be read from multiple threads at once.
+ *
+ * <p>The file starts out with a single reference held by its opener, every
+ * pending read should {@link #retain()} another one. The mapping is released
+ * as soon as the last reference is {@link #release() released}.</p>
+ */
+final class MappedRegionFile {
+
+    static final int CHUNKS_PER_REGION = 1024;
+    private static final int SECTOR_SIZE = 4096;
+    private static final int COMPRESSION_GZIP = 1;
+    private static final int COMPRESSION_ZLIB = 2;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int[] offsets = new int[CHUNKS_PER_REGION];
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private MappedRegionFile(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.capacity() >= SECTOR_SIZE) {
+            for (int i = 0; i < CHUNKS_PER_REGION; i++) {
+                this.offsets[i] = buffer.getInt(i * 4);
+            }
+        }
+    }
+
+    static MappedRegionFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new MappedRegionFile(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads only the sector table of a region file, to count its chunks.
+     *
+     * @param path The region file
+     * @return The amount of chunks present in the file
+     */
+    static int countChunks(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(CHUNKS_PER_REGION * 4);
+            while (header.hasRemaining() && channel.read(header) != -1) {
+                // Keep reading until the table is complete
+            }
+            header.flip();
+            int count = 0;
+            while (header.remaining() >= 4) {
+                if (header.getInt() != 0) {
+                    count++;
+                }
+            }
+            return count;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    void retain() {
+        this.references.incrementAndGet();
+    }
+
+    /**
+     * Releases a reference to this file, unmapping it once no reads can be
+     * pending anymore. The file must not be read after its last reference
+     * is released.
+     */
+    void release() {
+        if (this.references.decrementAndGet() == 0) {
+            unmap(this.buffer);
+        }
+    }
+
+    /**
+     * Unmaps the buffer right away instead of waiting for it to be garbage
+     * collected, which keeps the file open and the address space reserved.
+     * This relies on the cleaner of the JDK's direct buffers and leaves the
+     * buffer to the garbage collector if it is unavailable.
+     *
+     * @param buffer The buffer to unmap
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            final Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Left to the garbage collector
+        }
+    }
+
+    boolean hasChunk(int index) {
+        return this.offsets[index] != 0;
+    }
+
+    /**
+     * Gets the index of the next present chunk, starting from the given
+     * index.
+     *
+     * @param index The index to start at, inclusive
+     * @return The index of the next chunk, or -1 if there are none
+     */
+    int nextChunk(int index) {
+        while (index < CHUNKS_PER_REGION) {
+            if (this.offsets[index] != 0) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Inflates and reads the chunk at the given index of the sector table.
+     * Chunks which can't be inflated or read are logged and skipped.
+     *
+     * @param index The index in the sector table
+     * @return The chunk data, or null if the chunk is missing or malformed
+     */
+    @Nullable
+    DataContainer read(int index) {
+        final int offset = this.offsets[index];
+        final long position = (long) (offset >>> 8) * SECTOR_SIZE;
+        final int sectors = offset & 0xFF;
+        if (offset == 0 || position + 5 > this.buffer.capacity()) {
+            return null;
+        }
+        final int length = this.buffer.getInt((int) position);
+        if (length <= 1 || length > sectors * SECTOR_SIZE || position + 4 + length > this.buffer.capacity()) {
+            return null;
+        }
+        final int compression = this.buffer.get((int) position + 4);
+        final ByteBuffer data = this.buffer.duplicate();
+        data.position((int) position + 5);
+        data.limit((int) position + 4 + length);
+        if (compression != COMPRESSION_ZLIB && compression != COMPRESSION_GZIP) {
+            return null;
+        }
+        try {
+            final InputStream inflated = compression == COMPRESSION_ZLIB
+                    ? new InflaterInputStream(new ByteBufferInputStream(data.slice()))
+                    : new GZIPInputStream(new ByteBufferInputStream(data.slice()));
+            try (DataInputStream stream = new DataInputStream(new BufferedInputStream(inflated))) {
+                return WorldStorageUtil.readDataFromRegion(stream);
+            }
+        } catch (IOException | RuntimeException e) {
+            SpongeImpl.getLogger().error("Skipping malformed chunk {} of region file {}", index, this.path, e);
+            return null;
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            length = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, length);
+            return length;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+}
@@ -44,6 +44,7 @@
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -59,6 +60,36 @@ public static CompletableFuture<Boolean> doesChunkExist(WorldServer world, IChun
         return SpongeImpl.getScheduler().submitAsyncTask(() -> ((IMixinAnvilChunkLoader) chunkLoader).chunkExists(world, x, z));
     }
 
+    /**
+     * Checks which chunks of an area exist in storage, with a single task off
+     * the main thread.
+     *
+     * @param world The world
+     * @param chunkLoader The chunk loader of the world
+     * @param minX The minimum chunk x position, inclusive
+     * @param minZ The minimum chunk z position, inclusive
+     * @param maxX The maximum chunk x position, inclusive
+     * @param maxZ The maximum chunk z position, inclusive
+     * @return The existing chunks, the bit {@code (x - minX) + (z - minZ) * (maxX - minX + 1)} is set for each
+     */
+    public static CompletableFuture<BitSet> doChunksExist(WorldServer world, IChunkLoader chunkLoader, int minX, int minZ, int maxX, int maxZ) {
+        if (!(chunkLoader instanceof IMixinAnvilChunkLoader)) {
+            return CompletableFuture.completedFuture(new BitSet());
+        }
+        return SpongeImpl.getScheduler().submitAsyncTask(() -> {
+            final int width = maxX - minX + 1;
+            final BitSet existing = new BitSet(width * (maxZ - minZ + 1));
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    if (SpongeChunkLayout.instance.isValidChunk(x, 0, z) && ((IMixinAnvilChunkLoader) chunkLoader).chunkExists(world, x, z)) {
+                        existing.set((x - minX) + (z - minZ) * width);
+                    }
+                }
+            }
+            return existing;
+        });
+    }
+
     public static CompletableFuture<Optional<DataContainer>> getChunkData(WorldServer world, IChunkLoader chunkLoader, Vector3i chunkCoords) {
         int x = chunkCoords.getX();
         int y = chunkCoords.getY();
@@ -0,0 +1,98 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PlayerTrackerStoreTest {
+
+    @Test
+    public void testKeyRoundTrip() {
+        final int key = PlayerTrackerStore.key(-1, 300, 17);
+        assertEquals(15, PlayerTrackerStore.getX(key));
+        assertEquals(300, PlayerTrackerStore.getY(key));
+        assertEquals(1, PlayerTrackerStore.getZ(key));
+        assertFalse(PlayerTrackerStore.fitsShort(key));
+    }
+
+    @Test
+    public void testShortConversion() {
+        // x = 3, y = 200, z = 12 in the legacy short layout
+        final short serialized = (short) (12 << 12 | 200 << 4 | 3);
+        final int key = PlayerTrackerStore.fromShort(serialized);
+        assertEquals(PlayerTrackerStore.key(3, 200, 12), key);
+        assertTrue(PlayerTrackerStore.fitsShort(key));
+        assertEquals(serialized, PlayerTrackerStore.toShort(key));
+    }
+
+    @Test
+    public void testOwnerAndNotifier() {
+        final PlayerTrackerStore store = new PlayerTrackerStore();
+        final int key = PlayerTrackerStore.key(1, 64, 2);
+        assertEquals(PlayerTrackerStore.NO_INDEX, store.getOwner(key));
+        assertEquals(PlayerTrackerStore.NO_INDEX, store.getNotifier(key));
+
+        store.setOwner(key, 5);
+        store.setNotifier(key, 7);
+        assertEquals(5, store.getOwner(key));
+        assertEquals(7, store.getNotifier(key));
+        assertEquals(1, store.size());
+
+        store.setOwner(key, PlayerTrackerStore.NO_INDEX);
+        assertEquals(7, store.getNotifier(key));
+        store.setNotifier(key, PlayerTrackerStore.NO_INDEX);
+        assertTrue(store.isEmpty());
+    }
+
+    @Test
+    public void testForEach() {
+        final PlayerTrackerStore store = new PlayerTrackerStore();
+        store.set(PlayerTrackerStore.key(0, 0, 0), 1, 2);
+        store.set(PlayerTrackerStore.key(15, 255, 15), 3, PlayerTrackerStore.NO_INDEX);
+        final int[] sum = new int[1];
+        store.forEach((key, owner, notifier) -> sum[0] += owner + notifier);
+        assertEquals(1 + 2 + 3 - 1, sum[0]);
+    }
+
+    @Test
+    public void testArraysRoundTrip() {
+        final PlayerTrackerStore store = new PlayerTrackerStore();
+        store.set(PlayerTrackerStore.key(1, 2, 3), 4, PlayerTrackerStore.NO_INDEX);
+        store.set(PlayerTrackerStore.key(15, 255, 15), PlayerTrackerStore.NO_INDEX, 7);
+        final int[][] arrays = store.toArrays();
+        assertEquals(2, arrays[0].length);
+
+        final PlayerTrackerStore copy = new PlayerTrackerStore(arrays[0], arrays[1], arrays[2]);
+        assertEquals(2, copy.size());
+        assertEquals(4, copy.getOwner(PlayerTrackerStore.key(1, 2, 3)));
+        assertEquals(PlayerTrackerStore.NO_INDEX, copy.getNotifier(PlayerTrackerStore.key(1, 2, 3)));
+        assertEquals(7, copy.getNotifier(PlayerTrackerStore.key(15, 255, 15)));
+    }
+
+}
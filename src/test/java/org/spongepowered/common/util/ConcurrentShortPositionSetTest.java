@@ -0,0 +1,65 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ConcurrentShortPositionSetTest {
+
+    @Test
+    public void testAddMergesDuplicates() {
+        ConcurrentShortPositionSet set = new ConcurrentShortPositionSet();
+        assertTrue(set.add((short) 0x1234));
+        assertFalse(set.add((short) 0x1234));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void testNegativePositions() {
+        ConcurrentShortPositionSet set = new ConcurrentShortPositionSet();
+        assertTrue(set.add((short) 0xFFFF));
+        assertTrue(set.add((short) 0x8000));
+        assertTrue(set.contains((short) 0xFFFF));
+        assertTrue(set.contains((short) 0x8000));
+        assertFalse(set.contains((short) 0x7FFF));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    public void testRemove() {
+        ConcurrentShortPositionSet set = new ConcurrentShortPositionSet();
+        assertFalse(set.remove((short) 42));
+        set.add((short) 42);
+        set.add((short) 43);
+        assertTrue(set.remove((short) 42));
+        assertFalse(set.contains((short) 42));
+        assertTrue(set.contains((short) 43));
+        assertEquals(1, set.size());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.persistence.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.data.persistence.DataStreamReader;
+import org.spongepowered.common.data.persistence.DataStreamWriter;
+import org.spongepowered.common.data.persistence.JsonDataFormat;
+import org.spongepowered.common.data.persistence.NbtDataFormat;
+import org.spongepowered.common.data.persistence.StreamingDataFormat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
+
+public class DataStreamTest {
+
+    private static void testRoundTrip(StreamingDataFormat format) throws IOException {
+        final DataContainer entry = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED)
+                .set(DataQuery.of("name"), "foo")
+                .set(DataQuery.of("flag"), true)
+                .set(DataQuery.of("nested", "value"), 7)
+                .set(DataQuery.of("list"), Arrays.asList("a", "b"));
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (DataStreamWriter writer = format.createWriter(output)) {
+            writer.beginView();
+            for (int i = 0; i < 3; i++) {
+                writer.key("entry" + i).value(entry);
+            }
+            writer.endView();
+        }
+
+        try (DataStreamReader reader = format.createReader(new ByteArrayInputStream(output.toByteArray()))) {
+            reader.beginView();
+            for (int i = 0; i < 3; i++) {
+                assertEquals("entry" + i, reader.nextKey());
+                final DataView view = reader.nextView();
+                assertEquals(Optional.of("foo"), view.getString(DataQuery.of("name")));
+                assertEquals(Optional.of(true), view.getBoolean(DataQuery.of("flag")));
+                assertEquals(Optional.of(7), view.getInt(DataQuery.of("nested", "value")));
+                assertEquals(Optional.of(Arrays.asList("a", "b")), view.getStringList(DataQuery.of("list")));
+            }
+            assertFalse(reader.hasNext());
+            reader.endView();
+            assertEquals(DataStreamReader.Token.END, reader.peek());
+        }
+    }
+
+    @Test
+    public void testJsonRoundTrip() throws IOException {
+        testRoundTrip(new JsonDataFormat());
+    }
+
+    @Test
+    public void testNbtRoundTrip() throws IOException {
+        testRoundTrip(new NbtDataFormat("nbt"));
+    }
+
+}
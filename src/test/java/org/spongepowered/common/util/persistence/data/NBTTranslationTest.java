@@ -25,6 +25,7 @@
 package org.spongepowered.common.util.persistence.data;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.when;
 
 import net.minecraft.nbt.NBTTagCompound;
@@ -63,4 +64,27 @@ public void testDotContainerKeys() {
         assertEquals(container, translatedContainer);
     }
 
+    @Test
+    public void testWrappedCompound() {
+        final NBTTagCompound nested = new NBTTagCompound();
+        nested.setDouble("double", 1.5D);
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setInteger("int", 3);
+        compound.setString("string", "foo");
+        compound.setBoolean("flag" + NbtTranslator.BOOLEAN_IDENTIFER, true);
+        compound.setTag("nested", nested);
+
+        final DataContainer view = NbtTranslator.getInstance().wrap(compound);
+        assertEquals(Optional.of(3), view.getInt(DataQuery.of("int")));
+        assertEquals(Optional.of("foo"), view.getString(DataQuery.of("string")));
+        assertEquals(Optional.of(true), view.getBoolean(DataQuery.of("flag")));
+        assertEquals(Optional.of(1.5D), view.getDouble(DataQuery.of("nested", "double")));
+        assertEquals(NbtTranslator.getInstance().translateFrom(compound).getValues(true), view.getValues(true));
+
+        view.set(DataQuery.of("nested", "int"), 2);
+        view.set(DataQuery.of("flag"), false);
+        assertEquals(2, nested.getInteger("int"));
+        assertFalse(compound.getBoolean("flag" + NbtTranslator.BOOLEAN_IDENTIFER));
+    }
+
 }